@@ -31,6 +31,10 @@ echo "  1. Start Admin Server: cd ../admin-server && mvn spring-boot:run"
 echo "  2. Start App: cd ../scheduler-demo-app && mvn spring-boot:run"
 echo "  3. Access UI: http://localhost:8080 (admin/admin)"
 echo ""
+echo "To check the starter's startup footprint (refresh time, bean count, heap):"
+echo "  cd ../health-monitor-benchmarks"
+echo "  mvn verify"
+echo ""
 echo "Or for other test applications:"
 echo "  cd ../health-monitor-test-app"
 echo "  mvn spring-boot:run"
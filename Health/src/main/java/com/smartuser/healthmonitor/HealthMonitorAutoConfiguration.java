@@ -1,38 +1,116 @@
 package com.smartuser.healthmonitor;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 import javax.sql.DataSource;
 
 import com.smartuser.healthmonitor.advice.GlobalExceptionHandler;
+import com.smartuser.healthmonitor.aot.HealthMonitorRuntimeHints;
 import com.smartuser.healthmonitor.controller.DatabaseStatusController;
+import com.smartuser.healthmonitor.execution.MonitorExecutor;
+import com.smartuser.healthmonitor.execution.PinningMonitor;
+import com.smartuser.healthmonitor.health.LogHealthIndicator;
 import com.smartuser.healthmonitor.notifier.HealthStatusNotifier;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+import com.smartuser.healthmonitor.status.HealthSampleListener;
+import com.smartuser.healthmonitor.status.HealthStatusEndpoint;
+import com.smartuser.healthmonitor.status.HealthStatusTracker;
 
 /**
  * Auto-configuration for Health Monitor Starter
  * Follows Spring Boot 3.5 auto-configuration patterns
+ * Every bean is declared explicitly here or in CompositeHealthIndicatorRegistrar;
+ * the starter never component-scans the host application's classpath
  */
-@AutoConfiguration
+@AutoConfiguration(after = DataSourceAutoConfiguration.class)
 @EnableConfigurationProperties(HealthMonitorProperties.class)
 @ConditionalOnProperty(prefix = "health.monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
 @EnableAsync
-@ComponentScan(basePackages = "com.smartuser.healthmonitor")
+@ImportRuntimeHints(HealthMonitorRuntimeHints.class)
 public class HealthMonitorAutoConfiguration {
 
+    /**
+     * Accounts the starter's own CPU and allocations; a no-op unless health.monitor.overhead.enabled
+     */
     @Bean
     @ConditionalOnMissingBean
-    public GlobalExceptionHandler globalExceptionHandler(HealthStatusNotifier notifier) {
-        return new GlobalExceptionHandler(notifier);
+    public MonitoringOverhead monitoringOverhead(HealthMonitorProperties properties) {
+        return new MonitoringOverhead(properties);
+    }
+
+    /**
+     * Runs probe and alert work inline, or on bounded virtual threads with health.monitor.execution.virtualThreads
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public MonitorExecutor monitorExecutor(HealthMonitorProperties properties) {
+        return new MonitorExecutor(properties);
+    }
+
+    /**
+     * Reports virtual threads pinned by blocking drivers; only useful once work runs on virtual threads
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "health.monitor.execution", name = "virtualThreads", havingValue = "true")
+    @ConditionalOnMissingBean
+    public PinningMonitor pinningMonitor(HealthMonitorProperties properties) {
+        return new PinningMonitor(properties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public HealthStatusNotifier healthStatusNotifier(HealthMonitorProperties properties,
+                                                     ObjectProvider<LogHealthIndicator> logHealthIndicatorProvider,
+                                                     MonitoringOverhead monitoringOverhead,
+                                                     MonitorExecutor monitorExecutor) {
+        return new HealthStatusNotifier(properties, logHealthIndicatorProvider, monitoringOverhead, monitorExecutor);
+    }
+
+    /**
+     * Every indicator reports here; only adopted status changes are sent to the notifier
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public HealthStatusTracker healthStatusTracker(HealthMonitorProperties properties,
+                                                   ObjectProvider<HealthStatusNotifier> notifierProvider,
+                                                   ObjectProvider<HealthSampleListener> sampleListeners) {
+        return new HealthStatusTracker(properties, notifierProvider, sampleListeners);
+    }
+
+    @Bean
+    @ConditionalOnAvailableEndpoint(endpoint = HealthStatusEndpoint.class)
+    @ConditionalOnMissingBean
+    public HealthStatusEndpoint healthStatusEndpoint(HealthStatusTracker healthStatusTracker) {
+        return new HealthStatusEndpoint(healthStatusTracker);
+    }
+
+    /**
+     * Servlet only: the handler resolves WebRequest, which WebFlux does not provide
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnMissingBean
+    public GlobalExceptionHandler globalExceptionHandler(HealthStatusNotifier notifier, HealthMonitorProperties properties,
+                                                         MonitoringOverhead monitoringOverhead) {
+        return new GlobalExceptionHandler(notifier, properties, monitoringOverhead);
     }
     
+    /**
+     * Servlet only: the controller runs JDBC on the request thread, which would block a WebFlux event loop
+     */
     @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
     @ConditionalOnBean(DataSource.class)
     @ConditionalOnProperty(prefix = "health.monitor.database", name = "statusEndpointEnabled", havingValue = "true", matchIfMissing = false)
     @ConditionalOnMissingBean
@@ -1,5 +1,8 @@
 package com.smartuser.healthmonitor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import lombok.Data;
@@ -31,6 +34,51 @@ public class HealthMonitorProperties {
      */
     private LogsConfig logs = new LogsConfig();
 
+    /**
+     * Java Flight Recorder event configuration
+     */
+    private JfrConfig jfr = new JfrConfig();
+
+    /**
+     * Threading model for probe work
+     */
+    private ExecutionConfig execution = new ExecutionConfig();
+
+    /**
+     * Precomputed Kubernetes liveness/readiness endpoints
+     */
+    private ProbesConfig probes = new ProbesConfig();
+
+    /**
+     * Rendered /actuator/health response cache
+     */
+    private ResponseCacheConfig responseCache = new ResponseCacheConfig();
+
+    /**
+     * Latency baselines and the DEGRADED status
+     */
+    private LatencyConfig latency = new LatencyConfig();
+
+    /**
+     * Status transition hysteresis and flap tracking
+     */
+    private TransitionsConfig transitions = new TransitionsConfig();
+
+    /**
+     * In-memory compressed health history
+     */
+    private HistoryConfig history = new HistoryConfig();
+
+    /**
+     * Self-accounting of the monitor's CPU/allocation cost and the overhead budget
+     */
+    private OverheadConfig overhead = new OverheadConfig();
+
+    /**
+     * Lightweight DNS/TCP/TLS dependency checks
+     */
+    private ConnectivityConfig connectivity = new ConnectivityConfig();
+
     @Data
     public static class DatabaseConfig {
         private boolean enabled = true;
@@ -84,5 +132,212 @@ public class HealthMonitorProperties {
         private String url = "";
         private long timeout = 5000;
     }
-}
 
+    @Data
+    public static class JfrConfig {
+        /**
+         * Emit HealthProbe, AlertDispatch and HandledException events while a
+         * flight recording is running. Has no effect when nothing is recording.
+         */
+        private boolean enabled = true;
+        /**
+         * Only commit HealthProbe events whose total duration is at least this long (ms)
+         */
+        private long probeThresholdMs = 0;
+        /**
+         * Only commit AlertDispatch events whose delivery time is at least this long (ms)
+         */
+        private long alertThresholdMs = 0;
+    }
+
+    @Data
+    public static class ExecutionConfig {
+        /**
+         * Run blocking probe, notification and alert delivery work on virtual threads
+         * (reactive JDBC checks use them instead of a bounded elastic pool)
+         */
+        private boolean virtualThreads = false;
+        /**
+         * Most blocking probes (JDBC, HTTP, socket checks) running at once in virtual-thread mode
+         */
+        private int probeConcurrency = 16;
+        /**
+         * Most alert deliveries in flight in virtual-thread mode; beyond that the caller delivers inline
+         */
+        private int notifierConcurrency = 32;
+        /**
+         * In virtual-thread mode, report virtual threads pinned to their carrier at least this long (ms), via JFR
+         */
+        private long pinningThresholdMs = 20;
+    }
+
+    @Data
+    public static class ProbesConfig {
+        /**
+         * Serve liveness/readiness from precomputed responses, ahead of Spring Security
+         */
+        private boolean enabled = false;
+        private String livenessPath = "/livez";
+        private String readinessPath = "/readyz";
+        /**
+         * How often critical indicators are re-evaluated for readiness (ms)
+         */
+        private long refreshIntervalMs = 5000;
+    }
+
+    @Data
+    public static class ResponseCacheConfig {
+        /**
+         * Serve /actuator/health from cached JSON bytes, re-rendered only when a
+         * status or detail changes, with ETag / 304 Not Modified support
+         */
+        private boolean enabled = false;
+
+        /**
+         * Detail keys (at any depth) whose changes alone do not re-render the response,
+         * such as per-probe timings
+         */
+        private List<String> ignoredDetails = new ArrayList<>(
+                List.of("heartbeat", "responseTime", "dnsTime", "connectTime", "tlsTime"));
+    }
+
+    @Data
+    public static class LatencyConfig {
+        /**
+         * Report DEGRADED when an UP probe's recent p95 latency exceeds its learned baseline
+         */
+        private boolean enabled = false;
+        /**
+         * Samples per sketch window; the recent p95 covers the current and previous window
+         */
+        private int windowSize = 20;
+        /**
+         * Completed windows needed before a baseline is trusted
+         */
+        private int warmupWindows = 3;
+        /**
+         * Recent p95 must exceed baseline p95 by this factor to be DEGRADED
+         */
+        private double degradedFactor = 3.0;
+        /**
+         * Never report DEGRADED below this p95 (ms), so 2ms -> 7ms blips stay UP
+         */
+        private long minimumLatencyMs = 50;
+        /**
+         * EWMA weight given to each completed window when updating the baseline
+         */
+        private double baselineSmoothing = 0.2;
+    }
+
+    @Data
+    public static class TransitionsConfig {
+        /**
+         * Identical consecutive results needed before a component's status flips and is notified
+         */
+        private int consecutiveResults = 3;
+        /**
+         * Returning to the previous status within this window (ms) counts as a flap
+         */
+        private long flapWindowMs = 300_000;
+    }
+
+    @Data
+    public static class HistoryConfig {
+        /**
+         * Keep a compressed per-component history of health samples (/actuator/healthhistory)
+         */
+        private boolean enabled = false;
+        /**
+         * Off-heap chunk size in bytes; a steady component fills a 4 KB chunk with ~1000 samples
+         */
+        private int chunkBytes = 4096;
+        /**
+         * Samples older than this are dropped a chunk at a time
+         */
+        private long retentionHours = 72;
+        /**
+         * Upper bound on off-heap memory per component; the oldest chunks are dropped first
+         */
+        private long maxBytesPerComponent = 2 * 1024 * 1024;
+        /**
+         * Maximum buckets per component in one query; the step is widened to fit
+         */
+        private int maxPoints = 500;
+        /**
+         * Memory-mapped on-disk journal of samples and transitions
+         */
+        private HistoryPersistenceConfig persistence = new HistoryPersistenceConfig();
+    }
+
+    @Data
+    public static class HistoryPersistenceConfig {
+        /**
+         * Journal samples and transitions to disk and replay them into history on restart
+         */
+        private boolean enabled = false;
+        /**
+         * Directory for segment files; put it on a volume that outlives the container
+         */
+        private String directory = "logs/health-history";
+        /**
+         * Size of each memory-mapped segment file in bytes
+         */
+        private int segmentBytes = 4 * 1024 * 1024;
+        /**
+         * Pending records buffered for the writer thread; records are dropped (not blocked on) when full
+         */
+        private int queueCapacity = 4096;
+    }
+
+    @Data
+    public static class OverheadConfig {
+        /**
+         * Measure the starter's own CPU time and allocations per subsystem and enforce the budget
+         */
+        private boolean enabled = false;
+        /**
+         * Allowed share of available CPU (all cores) for probes, scrapes, alerts and exception handling
+         */
+        private double cpuBudgetPercent = 0.5;
+        /**
+         * How often consumption is compared with the budget
+         */
+        private long evaluationIntervalMs = 30_000;
+        /**
+         * Upper bound for the probe interval multiplier while over budget
+         */
+        private int maxStretch = 8;
+    }
+
+    @Data
+    public static class ConnectivityConfig {
+        private boolean enabled = false;
+        /**
+         * Dependencies probed by resolution/connect/handshake instead of an HTTP request
+         */
+        private List<ConnectivityTarget> targets = new ArrayList<>();
+    }
+
+    @Data
+    public static class ConnectivityTarget {
+        /**
+         * Key in health details and in history (connectivity/&lt;name&gt;)
+         */
+        private String name;
+        private String host;
+        private int port;
+        /**
+         * DNS: resolve only; TCP: resolve + connect; TLS: resolve + connect + handshake
+         */
+        private ProbeMode mode = ProbeMode.TCP;
+        private long timeout = 1000;
+        /**
+         * If true, failures make the component UNKNOWN instead of DOWN
+         */
+        private boolean nonCritical = false;
+    }
+
+    public enum ProbeMode {
+        DNS, TCP, TLS
+    }
+}
@@ -9,7 +9,11 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.jfr.HandledExceptionEvent;
 import com.smartuser.healthmonitor.notifier.HealthStatusNotifier;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+import com.smartuser.healthmonitor.overhead.Subsystem;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,18 +25,37 @@ import lombok.extern.slf4j.Slf4j;
 public class GlobalExceptionHandler {
 
     private final HealthStatusNotifier notifier;
+    private final HealthMonitorProperties properties;
+    private final MonitoringOverhead overhead;
 
-    public GlobalExceptionHandler(HealthStatusNotifier notifier) {
+    public GlobalExceptionHandler(HealthStatusNotifier notifier, HealthMonitorProperties properties,
+                                  MonitoringOverhead overhead) {
         this.notifier = notifier;
+        this.properties = properties;
+        this.overhead = overhead;
     }
 
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, Object>> handleRuntimeException(RuntimeException ex, WebRequest request) {
+        try (MonitoringOverhead.Measurement measurement = overhead.start(Subsystem.EXCEPTIONS)) {
+            return runtimeExceptionResponse(ex, request);
+        }
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Map<String, Object>> handleException(Exception ex, WebRequest request) {
+        try (MonitoringOverhead.Measurement measurement = overhead.start(Subsystem.EXCEPTIONS)) {
+            return exceptionResponse(ex, request);
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> runtimeExceptionResponse(RuntimeException ex, WebRequest request) {
         String path = request.getDescription(false).replace("uri=", "");
         
         // Ignore favicon.ico and other static resource requests
         if (shouldIgnoreException(ex, path)) {
             log.debug("Ignoring exception for static resource: {}", path);
+            HandledExceptionEvent.emit(ex, path, true, properties.getJfr());
             Map<String, Object> body = new HashMap<>();
             body.put("status", HttpStatus.NOT_FOUND.value());
             body.put("error", "Not Found");
@@ -41,6 +64,7 @@ public class GlobalExceptionHandler {
             return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
         }
         
+        HandledExceptionEvent.emit(ex, path, false, properties.getJfr());
         String message = "Runtime exception: " + ex.getMessage();
         notifier.notifyError(message, ex);
 
@@ -54,14 +78,14 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
-    @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleException(Exception ex, WebRequest request) {
+    private ResponseEntity<Map<String, Object>> exceptionResponse(Exception ex, WebRequest request) {
         String path = request.getDescription(false).replace("uri=", "");
         
         // Handle NoResourceFoundException (Spring 6+) for missing static resources
         String exceptionClassName = ex.getClass().getName();
         if (exceptionClassName.equals("org.springframework.web.servlet.resource.NoResourceFoundException")) {
             log.debug("Static resource not found: {}", path);
+            HandledExceptionEvent.emit(ex, path, true, properties.getJfr());
             Map<String, Object> body = new HashMap<>();
             body.put("status", HttpStatus.NOT_FOUND.value());
             body.put("error", "Not Found");
@@ -73,6 +97,7 @@ public class GlobalExceptionHandler {
         // Ignore favicon.ico and other static resource requests
         if (shouldIgnoreException(ex, path)) {
             log.debug("Ignoring exception for static resource: {}", path);
+            HandledExceptionEvent.emit(ex, path, true, properties.getJfr());
             Map<String, Object> body = new HashMap<>();
             body.put("status", HttpStatus.NOT_FOUND.value());
             body.put("error", "Not Found");
@@ -81,6 +106,7 @@ public class GlobalExceptionHandler {
             return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
         }
         
+        HandledExceptionEvent.emit(ex, path, false, properties.getJfr());
         String message = "Uncaught exception: " + ex.getMessage();
         notifier.notifyError(message, ex);
 
@@ -0,0 +1,59 @@
+package com.smartuser.healthmonitor.aot;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.lang.Nullable;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.history.HistoryPoint;
+import com.smartuser.healthmonitor.history.JournalRecord;
+import com.smartuser.healthmonitor.notifier.AlertPayload;
+import com.smartuser.healthmonitor.status.HealthStatusTracker;
+
+/**
+ * Native image hints for the reflective parts of the starter:
+ * property binding, Jackson alert payloads and the Logback XML configuration
+ * shipped by host applications
+ */
+public class HealthMonitorRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * Logback classes instantiated by Joran from logback-spring.xml
+     */
+    private static final String[] LOGBACK_TYPES = {
+        "ch.qos.logback.core.ConsoleAppender",
+        "ch.qos.logback.core.rolling.RollingFileAppender",
+        "ch.qos.logback.core.rolling.TimeBasedRollingPolicy",
+        "ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy",
+        "ch.qos.logback.core.rolling.SizeBasedTriggeringPolicy",
+        "ch.qos.logback.core.rolling.FixedWindowRollingPolicy",
+        "ch.qos.logback.classic.encoder.PatternLayoutEncoder",
+        "ch.qos.logback.classic.AsyncAppender"
+    };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        // health.monitor.* binding walks nested config classes through their setters
+        bindingRegistrar.registerReflectionHints(hints.reflection(), HealthMonitorProperties.class);
+
+        // Webhook body serialized by Jackson
+        bindingRegistrar.registerReflectionHints(hints.reflection(), AlertPayload.class);
+
+        // /actuator/healthstatus response
+        bindingRegistrar.registerReflectionHints(hints.reflection(), HealthStatusTracker.ComponentSnapshot.class);
+
+        // /actuator/healthhistory response
+        bindingRegistrar.registerReflectionHints(hints.reflection(), HistoryPoint.class, JournalRecord.class);
+
+        for (String type : LOGBACK_TYPES) {
+            hints.reflection().registerTypeIfPresent(classLoader, type,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("logback-spring.xml");
+        hints.resources().registerPattern("logback.xml");
+    }
+}
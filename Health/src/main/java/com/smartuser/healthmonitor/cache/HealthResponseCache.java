@@ -0,0 +1,194 @@
+package com.smartuser.healthmonitor.cache;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.health.CompositeHealth;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.SystemHealth;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps the last rendered /actuator/health body as bytes together with its ETag.
+ * A freshly evaluated health tree is compared structurally with the cached one
+ * and only serialized again when a status or a detail value changed. Details that
+ * change on every probe (timings) are left out of the comparison, so the cached
+ * body may show timings from the last real change. One entry is kept per view
+ * (with or without components and details), so callers with and without
+ * show-details do not evict each other.
+ */
+public class HealthResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final Set<String> ignoredDetails;
+    private final AtomicReferenceArray<Entry> last = new AtomicReferenceArray<>(4);
+    private final LongAdder renders = new LongAdder();
+    private final LongAdder reuses = new LongAdder();
+
+    public HealthResponseCache(ObjectMapper objectMapper) {
+        this(objectMapper, Set.of());
+    }
+
+    /**
+     * @param ignoredDetails detail keys, at any depth, that alone never cause a re-render
+     */
+    public HealthResponseCache(ObjectMapper objectMapper, Collection<String> ignoredDetails) {
+        this.objectMapper = objectMapper;
+        this.ignoredDetails = Set.copyOf(ignoredDetails);
+    }
+
+    /**
+     * Return the rendered entry for an evaluated health response, reusing the
+     * cached bytes when nothing changed
+     */
+    public Entry resolve(WebEndpointResponse<? extends HealthComponent> response) throws JsonProcessingException {
+        HealthComponent health = response.getBody();
+        int view = view(health);
+        Entry previous = last.get(view);
+        if (previous != null && previous.status() == response.getStatus()
+                && sameHealth(previous.health(), health, ignoredDetails)) {
+            reuses.increment();
+            return previous;
+        }
+        byte[] body = health != null ? objectMapper.writeValueAsBytes(health) : new byte[0];
+        Entry entry = new Entry(health, response.getStatus(), body, etag(body));
+        last.set(view, entry);
+        renders.increment();
+        return entry;
+    }
+
+    public long getRenderCount() {
+        return renders.sum();
+    }
+
+    public long getReuseCount() {
+        return reuses.sum();
+    }
+
+    private static String etag(byte[] body) {
+        StringBuilder builder = new StringBuilder(37);
+        builder.append("\"0");
+        DigestUtils.appendMd5DigestAsHex(body, builder);
+        builder.append('"');
+        return builder.toString();
+    }
+
+    /**
+     * Which parts the caller may see: bit 0 components, bit 1 details
+     */
+    private static int view(HealthComponent health) {
+        if (health instanceof CompositeHealth composite && composite.getComponents() != null) {
+            return 1 | (hasDetails(composite) ? 2 : 0);
+        }
+        return health instanceof Health leaf && !leaf.getDetails().isEmpty() ? 2 : 0;
+    }
+
+    private static boolean hasDetails(CompositeHealth composite) {
+        for (HealthComponent component : composite.getComponents().values()) {
+            if (component instanceof Health leaf ? !leaf.getDetails().isEmpty()
+                    : component instanceof CompositeHealth nested && nested.getComponents() != null && hasDetails(nested)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Structural equality over the health tree, ignoring the given detail keys.
+     * Leaves compare status and details; composites are compared component by component.
+     */
+    static boolean sameHealth(HealthComponent a, HealthComponent b, Set<String> ignoredDetails) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null || a.getClass() != b.getClass() || !a.getStatus().equals(b.getStatus())) {
+            return false;
+        }
+        if (a instanceof Health healthA) {
+            return sameDetails(healthA.getDetails(), ((Health) b).getDetails(), ignoredDetails);
+        }
+        if (a instanceof SystemHealth systemA && !Objects.equals(systemA.getGroups(), ((SystemHealth) b).getGroups())) {
+            return false;
+        }
+        if (a instanceof CompositeHealth compositeA) {
+            Map<String, HealthComponent> componentsA = compositeA.getComponents();
+            Map<String, HealthComponent> componentsB = ((CompositeHealth) b).getComponents();
+            if (componentsA == null || componentsB == null) {
+                return componentsA == componentsB;
+            }
+            if (componentsA.size() != componentsB.size()) {
+                return false;
+            }
+            for (Map.Entry<String, HealthComponent> component : componentsA.entrySet()) {
+                if (!sameHealth(component.getValue(), componentsB.get(component.getKey()), ignoredDetails)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return a.equals(b);
+    }
+
+    private static boolean sameDetails(Map<?, ?> a, Map<?, ?> b, Set<String> ignoredDetails) {
+        if (ignoredDetails.isEmpty()) {
+            return a.equals(b);
+        }
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (Map.Entry<?, ?> detail : a.entrySet()) {
+            Object key = detail.getKey();
+            if (!b.containsKey(key)) {
+                return false;
+            }
+            if (ignoredDetails.contains(key)) {
+                continue;
+            }
+            Object valueA = detail.getValue();
+            Object valueB = b.get(key);
+            if (valueA instanceof Map<?, ?> mapA && valueB instanceof Map<?, ?> mapB) {
+                if (!sameDetails(mapA, mapB, ignoredDetails)) {
+                    return false;
+                }
+            } else if (valueA instanceof Collection<?> listA && valueB instanceof Collection<?> listB) {
+                if (!sameElements(listA, listB, ignoredDetails)) {
+                    return false;
+                }
+            } else if (!Objects.equals(valueA, valueB)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameElements(Collection<?> a, Collection<?> b, Set<String> ignoredDetails) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        Iterator<?> iteratorB = b.iterator();
+        for (Object elementA : a) {
+            Object elementB = iteratorB.next();
+            if (elementA instanceof Map<?, ?> mapA && elementB instanceof Map<?, ?> mapB
+                    ? !sameDetails(mapA, mapB, ignoredDetails) : !Objects.equals(elementA, elementB)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rendered response: the source tree, HTTP status, JSON bytes and quoted ETag
+     */
+    public record Entry(HealthComponent health, int status, byte[] body, String etag) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.smartuser.healthmonitor.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.actuate.autoconfigure.health.HealthEndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.endpoint.jackson.EndpointObjectMapper;
+import org.springframework.boot.actuate.health.HealthEndpointWebExtension;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.health.CompositeHealthIndicatorRegistrar;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves /actuator/health from a change-only rendered byte cache with ETag support.
+ * Only applies when actuator shares the application port, since the filter is
+ * registered on the main servlet context.
+ */
+@Slf4j
+@AutoConfiguration(after = { HealthEndpointAutoConfiguration.class, CompositeHealthIndicatorRegistrar.class })
+@ConditionalOnProperty(prefix = "health.monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(prefix = "health.monitor.responseCache", name = "enabled", havingValue = "true", matchIfMissing = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(name = "jakarta.servlet.Filter")
+@ConditionalOnManagementPort(ManagementPortType.SAME)
+@ConditionalOnBean(HealthEndpointWebExtension.class)
+@EnableConfigurationProperties(HealthMonitorProperties.class)
+public class HealthResponseCacheAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public HealthResponseCache healthResponseCache(HealthMonitorProperties properties,
+                                                   ObjectProvider<EndpointObjectMapper> endpointObjectMapper,
+                                                   ObjectProvider<ObjectMapper> objectMapper) {
+        // Render with the same mapper actuator would use
+        EndpointObjectMapper endpointMapper = endpointObjectMapper.getIfAvailable();
+        ObjectMapper mapper = endpointMapper != null ? endpointMapper.get() : objectMapper.getIfAvailable(ObjectMapper::new);
+        return new HealthResponseCache(mapper, properties.getResponseCache().getIgnoredDetails());
+    }
+
+    @Bean
+    public FilterRegistrationBean<HealthResponseCacheFilter> healthResponseCacheFilter(
+            HealthEndpointWebExtension healthEndpointWebExtension,
+            HealthResponseCache healthResponseCache,
+            WebEndpointProperties webEndpointProperties) {
+        String path = webEndpointProperties.getBasePath() + "/"
+                + webEndpointProperties.getPathMapping().getOrDefault("health", "health");
+        log.info("Serving {} from the rendered health response cache", path);
+        FilterRegistrationBean<HealthResponseCacheFilter> registration = new FilterRegistrationBean<>(
+                new HealthResponseCacheFilter(healthEndpointWebExtension, healthResponseCache));
+        registration.setName("healthResponseCacheFilter");
+        registration.addUrlPatterns(path);
+        // Right after Spring Security so authentication and show-details roles still apply
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
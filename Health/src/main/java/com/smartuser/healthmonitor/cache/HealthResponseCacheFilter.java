@@ -0,0 +1,88 @@
+package com.smartuser.healthmonitor.cache;
+
+import java.io.IOException;
+import java.security.Principal;
+
+import org.springframework.boot.actuate.endpoint.ApiVersion;
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.WebServerNamespace;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpointWebExtension;
+import org.springframework.http.HttpHeaders;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Serves GET /actuator/health from {@link HealthResponseCache}.
+ * Runs after Spring Security, evaluates health through the actuator web
+ * extension (so show-details and role rules still apply), and answers
+ * 304 Not Modified when the caller already holds the current ETag.
+ */
+public class HealthResponseCacheFilter implements Filter {
+
+    static final String ACTUATOR_V3_JSON = "application/vnd.spring-boot.actuator.v3+json";
+    private static final String ACTUATOR_V2_JSON = "application/vnd.spring-boot.actuator.v2+json";
+    private static final String APPLICATION_JSON = "application/json";
+
+    private final HealthEndpointWebExtension healthEndpoint;
+    private final HealthResponseCache cache;
+
+    public HealthResponseCacheFilter(HealthEndpointWebExtension healthEndpoint, HealthResponseCache cache) {
+        this.healthEndpoint = healthEndpoint;
+        this.cache = cache;
+    }
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        HttpServletResponse response = (HttpServletResponse) servletResponse;
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (!"GET".equals(request.getMethod()) || (accept != null && accept.contains(ACTUATOR_V2_JSON))) {
+            // Let actuator handle anything the cache does not render
+            chain.doFilter(request, response);
+            return;
+        }
+
+        WebEndpointResponse<HealthComponent> evaluated = healthEndpoint.health(ApiVersion.V3,
+                WebServerNamespace.SERVER, new RequestSecurityContext(request));
+        HealthResponseCache.Entry entry = cache.resolve(evaluated);
+
+        response.setHeader(HttpHeaders.ETAG, entry.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.contains(entry.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setStatus(entry.status());
+        response.setContentType(accept != null && accept.contains(APPLICATION_JSON) && !accept.contains(ACTUATOR_V3_JSON)
+                ? APPLICATION_JSON : ACTUATOR_V3_JSON);
+        response.setContentLength(entry.body().length);
+        response.getOutputStream().write(entry.body());
+    }
+
+    /**
+     * Same view of the caller actuator's servlet adapter builds
+     */
+    private record RequestSecurityContext(HttpServletRequest request) implements SecurityContext {
+
+        @Override
+        public Principal getPrincipal() {
+            return request.getUserPrincipal();
+        }
+
+        @Override
+        public boolean isUserInRole(String role) {
+            return request.isUserInRole(role);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.smartuser.healthmonitor.execution;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.HealthMonitorProperties.ExecutionConfig;
+import com.smartuser.healthmonitor.overhead.Subsystem;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Where the starter's blocking work runs.
+ * <p>
+ * With health.monitor.execution.virtualThreads off everything runs inline on the calling
+ * thread, as before. With it on, probe and alert work moves to virtual threads and each
+ * subsystem is bounded by a semaphore: probes wait for a permit, alerts that find none are
+ * delivered inline by the caller, which slows the producer instead of queueing without limit.
+ * Work that is already on a virtual thread only takes the permit and runs in place.
+ */
+@Slf4j
+public class MonitorExecutor implements AutoCloseable {
+
+    private final boolean virtualThreads;
+    private final ExecutorService executor;
+    private final Map<Subsystem, Semaphore> permits = new EnumMap<>(Subsystem.class);
+    private final Map<Subsystem, Integer> limits = new EnumMap<>(Subsystem.class);
+    private final Map<Subsystem, LongAdder> saturated = new EnumMap<>(Subsystem.class);
+
+    public MonitorExecutor(HealthMonitorProperties properties) {
+        ExecutionConfig config = properties.getExecution();
+        this.virtualThreads = config.isVirtualThreads();
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("health-monitor-", 0).factory())
+                : null;
+        limits.put(Subsystem.PROBE, Math.max(1, config.getProbeConcurrency()));
+        limits.put(Subsystem.NOTIFIER, Math.max(1, config.getNotifierConcurrency()));
+        for (Subsystem subsystem : Subsystem.values()) {
+            permits.put(subsystem, new Semaphore(limits.getOrDefault(subsystem, Integer.MAX_VALUE)));
+            saturated.put(subsystem, new LongAdder());
+        }
+        if (virtualThreads) {
+            log.info("Health monitor work runs on virtual threads (probes <= {}, alerts <= {} concurrent)",
+                    limits.get(Subsystem.PROBE), limits.get(Subsystem.NOTIFIER));
+        }
+    }
+
+    /**
+     * Run work the caller waits for, e.g. a blocking probe
+     */
+    public <T> T call(Subsystem subsystem, Callable<T> task) throws Exception {
+        if (!virtualThreads) {
+            return task.call();
+        }
+        Semaphore semaphore = permits.get(subsystem);
+        if (!semaphore.tryAcquire()) {
+            saturated.get(subsystem).increment();
+            semaphore.acquire();
+        }
+        try {
+            if (Thread.currentThread().isVirtual()) {
+                return task.call();
+            }
+            Future<T> future = executor.submit(task);
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                throw e;
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * Run fire-and-forget work, e.g. alert delivery; inline when saturated or virtual threads are off
+     */
+    public void execute(Subsystem subsystem, Runnable task) {
+        if (!virtualThreads) {
+            task.run();
+            return;
+        }
+        Semaphore semaphore = permits.get(subsystem);
+        if (!semaphore.tryAcquire()) {
+            saturated.get(subsystem).increment();
+            task.run();
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    semaphore.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down: deliver on the caller rather than drop the work
+            semaphore.release();
+            task.run();
+        }
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Tasks currently holding a permit of the subsystem
+     */
+    public int getActive(Subsystem subsystem) {
+        Integer limit = limits.get(subsystem);
+        return limit == null ? 0 : limit - permits.get(subsystem).availablePermits();
+    }
+
+    /**
+     * Times the subsystem was at its concurrency limit when work arrived
+     */
+    public long getSaturatedCount(Subsystem subsystem) {
+        return saturated.get(subsystem).sum();
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
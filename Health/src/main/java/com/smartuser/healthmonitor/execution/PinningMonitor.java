@@ -0,0 +1,91 @@
+package com.smartuser.healthmonitor.execution;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams jdk.VirtualThreadPinned JFR events in-process and reports where virtual threads
+ * blocked while pinned to their carrier, typically a JDBC driver or client library doing
+ * I/O inside synchronized code. Each site is logged once with its stack, then counted.
+ */
+@Slf4j
+public class PinningMonitor implements AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final RecordingStream stream;
+    private final LongAdder pinned = new LongAdder();
+    private final Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+
+    public PinningMonitor(HealthMonitorProperties properties) {
+        this.stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(properties.getExecution().getPinningThresholdMs()))
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.setMaxAge(Duration.ofMinutes(1));
+        stream.startAsync();
+        log.info("Virtual thread pinning detection active (threshold {}ms)",
+                properties.getExecution().getPinningThresholdMs());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        List<RecordedFrame> frames = event.getStackTrace() != null
+                ? event.getStackTrace().getFrames()
+                : Collections.emptyList();
+        String site = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(PinningMonitor::describe)
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk."))
+                .findFirst()
+                .orElse("unknown");
+        LongAdder count = new LongAdder();
+        LongAdder existing = sites.putIfAbsent(site, count);
+        (existing != null ? existing : count).increment();
+        if (existing == null) {
+            StringBuilder stack = new StringBuilder();
+            frames.stream().limit(LOGGED_FRAMES).forEach(frame -> stack.append("\n\tat ").append(describe(frame)));
+            log.warn("Virtual thread pinned for {}ms at {} (further pins at this site are only counted):{}",
+                    event.getDuration().toMillis(), site, stack);
+        }
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    /**
+     * Pin events seen since startup
+     */
+    public long getPinnedCount() {
+        return pinned.sum();
+    }
+
+    /**
+     * Pin counts by first non-JDK frame
+     */
+    public Map<String, Long> getSites() {
+        Map<String, Long> snapshot = new ConcurrentHashMap<>();
+        sites.forEach((site, count) -> snapshot.put(site, count.sum()));
+        return snapshot;
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
@@ -1,27 +1,41 @@
 package com.smartuser.healthmonitor.health;
 
+import java.util.concurrent.Executors;
+
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.autoconfigure.health.HealthContributorAutoConfiguration;
-import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.NoneNestedConditions;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
 import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.execution.MonitorExecutor;
+import com.smartuser.healthmonitor.latency.ProbeLatencyMonitor;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+import com.smartuser.healthmonitor.status.HealthStatusTracker;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Auto-configures health indicators based on available dependencies
  * Follows Spring Boot 3.5 auto-configuration patterns
+ * Indicators are only declared here; their constructors do no I/O and
+ * WebClients are built on first use, so registration stays cheap at startup
  */
 @Slf4j
 @AutoConfiguration(after = DataSourceAutoConfiguration.class)
@@ -30,12 +44,24 @@ import lombok.extern.slf4j.Slf4j;
 @ConditionalOnProperty(prefix = "health.monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class CompositeHealthIndicatorRegistrar {
 
+    private static final int PROBE_SCHEDULER_THREADS = 4;
+    private static final int PROBE_SCHEDULER_QUEUE = 64;
+
     private final HealthMonitorProperties properties;
 
     public CompositeHealthIndicatorRegistrar(HealthMonitorProperties properties) {
         this.properties = properties;
     }
 
+    /**
+     * Shared latency baselines for all probes; a no-op unless health.monitor.latency.enabled
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ProbeLatencyMonitor probeLatencyMonitor() {
+        return new ProbeLatencyMonitor(properties);
+    }
+
     /**
      * Register custom database health indicator with detailed information
      * Spring Boot Actuator automatically discovers HealthIndicator beans and registers them
@@ -46,15 +72,20 @@ public class CompositeHealthIndicatorRegistrar {
      */
     @Bean(name = "dbHealthIndicator")
     @Primary
+    @Conditional(NotReactiveWebApplication.class)
     @ConditionalOnBean(DataSource.class)
     @ConditionalOnClass(DataSource.class)
     @ConditionalOnProperty(prefix = "health.monitor.database", name = "enabled", havingValue = "true", matchIfMissing = true)
     @ConditionalOnProperty(prefix = "health.monitor.database", name = "overrideDefaultIndicator", havingValue = "true", matchIfMissing = true)
-    public HealthIndicator dbHealthIndicator(DataSource dataSource) {
+    public DatabaseHealthIndicator dbHealthIndicator(DataSource dataSource, ProbeLatencyMonitor probeLatencyMonitor,
+                                                     HealthStatusTracker healthStatusTracker,
+                                                     MonitoringOverhead monitoringOverhead,
+                                                     MonitorExecutor monitorExecutor) {
         log.info("=== HEALTH MONITOR: Registering custom database health indicator with detailed information ===");
         log.info("Bean name: dbHealthIndicator -> component: db");
         log.info("This replaces Spring Boot's default DataSourceHealthIndicator");
-        DatabaseHealthIndicator indicator = new DatabaseHealthIndicator(dataSource, properties);
+        DatabaseHealthIndicator indicator = new DatabaseHealthIndicator(dataSource, properties, probeLatencyMonitor,
+                healthStatusTracker, monitoringOverhead, monitorExecutor);
         log.debug("Custom DatabaseHealthIndicator instance created: {}", indicator.getClass().getName());
         return indicator;
     }
@@ -62,19 +93,104 @@ public class CompositeHealthIndicatorRegistrar {
 
 
     @Bean
+    @Conditional(NotReactiveWebApplication.class)
     @ConditionalOnMissingBean(name = "externalApiHealthIndicator")
     @ConditionalOnProperty(prefix = "health.monitor.external", name = "enabled", havingValue = "true", matchIfMissing = true)
-    public ExternalApiHealthIndicator externalApiHealthIndicator() {
+    public ExternalApiHealthIndicator externalApiHealthIndicator(ProbeLatencyMonitor probeLatencyMonitor,
+                                                                 HealthStatusTracker healthStatusTracker,
+                                                                 MonitoringOverhead monitoringOverhead,
+                                                                 MonitorExecutor monitorExecutor) {
         log.info("Registering external API health indicator");
-        return new ExternalApiHealthIndicator(properties);
+        return new ExternalApiHealthIndicator(properties, probeLatencyMonitor, healthStatusTracker, monitoringOverhead,
+                monitorExecutor);
     }
 
     @Bean
     @ConditionalOnMissingBean(name = "logHealthIndicator")
     @ConditionalOnProperty(prefix = "health.monitor.logs", name = "enabled", havingValue = "true", matchIfMissing = true)
-    public LogHealthIndicator logHealthIndicator() {
+    public LogHealthIndicator logHealthIndicator(HealthStatusTracker healthStatusTracker,
+                                                 MonitoringOverhead monitoringOverhead) {
         log.info("Registering log health indicator");
-        return new LogHealthIndicator(properties);
+        return new LogHealthIndicator(properties, healthStatusTracker, monitoringOverhead);
+    }
+
+    /**
+     * DNS/TCP/TLS reachability checks; actuator offloads blocking indicators from the event loop in WebFlux apps
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "connectivityHealthIndicator")
+    @ConditionalOnProperty(prefix = "health.monitor.connectivity", name = "enabled", havingValue = "true", matchIfMissing = false)
+    public ConnectivityHealthIndicator connectivityHealthIndicator(HealthStatusTracker healthStatusTracker,
+                                                                   MonitoringOverhead monitoringOverhead,
+                                                                   MonitorExecutor monitorExecutor) {
+        log.info("Registering connectivity health indicator for {} targets", properties.getConnectivity().getTargets().size());
+        return new ConnectivityHealthIndicator(properties, new ConnectivityProber(), healthStatusTracker, monitoringOverhead,
+                monitorExecutor);
+    }
+
+    /**
+     * Non-blocking variants picked when the host is a WebFlux application.
+     * Bean names match the blocking ones so components keep the same keys in /actuator/health.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveIndicatorsConfiguration {
+
+        /**
+         * Scheduler JDBC probes are offloaded to, so they never run on an event loop
+         */
+        @Bean(destroyMethod = "dispose")
+        @ConditionalOnMissingBean(name = "healthProbeScheduler")
+        public Scheduler healthProbeScheduler(HealthMonitorProperties properties) {
+            if (properties.getExecution().isVirtualThreads()) {
+                log.info("Health probes will be offloaded to virtual threads");
+                return Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "health-probe");
+            }
+            return Schedulers.newBoundedElastic(PROBE_SCHEDULER_THREADS, PROBE_SCHEDULER_QUEUE, "health-probe");
+        }
+
+        @Bean(name = "dbHealthIndicator")
+        @Primary
+        @ConditionalOnBean(DataSource.class)
+        @ConditionalOnProperty(prefix = "health.monitor.database", name = "enabled", havingValue = "true", matchIfMissing = true)
+        @ConditionalOnProperty(prefix = "health.monitor.database", name = "overrideDefaultIndicator", havingValue = "true", matchIfMissing = true)
+        public ReactiveDatabaseHealthIndicator dbHealthIndicator(DataSource dataSource, HealthMonitorProperties properties,
+                                                                 ProbeLatencyMonitor probeLatencyMonitor,
+                                                                 HealthStatusTracker healthStatusTracker,
+                                                                 MonitoringOverhead monitoringOverhead,
+                                                                 MonitorExecutor monitorExecutor,
+                                                                 @Qualifier("healthProbeScheduler") Scheduler healthProbeScheduler) {
+            log.info("Registering reactive database health indicator (JDBC offloaded from event loop)");
+            return new ReactiveDatabaseHealthIndicator(dataSource, properties, probeLatencyMonitor,
+                    healthStatusTracker, monitoringOverhead, monitorExecutor, healthProbeScheduler);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "externalApiHealthIndicator")
+        @ConditionalOnProperty(prefix = "health.monitor.external", name = "enabled", havingValue = "true", matchIfMissing = true)
+        public ReactiveExternalApiHealthIndicator externalApiHealthIndicator(HealthMonitorProperties properties,
+                                                                             ProbeLatencyMonitor probeLatencyMonitor,
+                                                                             HealthStatusTracker healthStatusTracker,
+                                                                             MonitoringOverhead monitoringOverhead,
+                                                                             MonitorExecutor monitorExecutor) {
+            log.info("Registering reactive external API health indicator");
+            return new ReactiveExternalApiHealthIndicator(properties, probeLatencyMonitor, healthStatusTracker,
+                    monitoringOverhead, monitorExecutor);
+        }
+    }
+
+    /**
+     * Matches servlet and non-web applications, where the blocking indicators are used
+     */
+    static class NotReactiveWebApplication extends NoneNestedConditions {
+
+        NotReactiveWebApplication() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+        static class Reactive {
+        }
     }
 }
 
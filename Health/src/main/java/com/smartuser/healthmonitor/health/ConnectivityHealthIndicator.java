@@ -0,0 +1,117 @@
+package com.smartuser.healthmonitor.health;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.HealthMonitorProperties.ConnectivityTarget;
+import com.smartuser.healthmonitor.HealthMonitorProperties.ProbeMode;
+import com.smartuser.healthmonitor.execution.MonitorExecutor;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+import com.smartuser.healthmonitor.overhead.Subsystem;
+import com.smartuser.healthmonitor.status.HealthStatusTracker;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DNS / TCP / TLS reachability of dependencies that don't need a full HTTP check
+ * (brokers, caches, gRPC backends). All targets are probed in one pass by {@link ConnectivityProber}.
+ * Same criticality model as the external API check: a failed critical target makes the
+ * component DOWN, non-critical failures only make it UNKNOWN.
+ */
+@Slf4j
+public class ConnectivityHealthIndicator implements HealthIndicator, CriticalityAware, AutoCloseable {
+
+    private final HealthMonitorProperties properties;
+    private final ConnectivityProber prober;
+    private final HealthStatusTracker statusTracker;
+    private final MonitoringOverhead overhead;
+    private final MonitorExecutor executor;
+
+    public ConnectivityHealthIndicator(HealthMonitorProperties properties, ConnectivityProber prober,
+                                       HealthStatusTracker statusTracker, MonitoringOverhead overhead,
+                                       MonitorExecutor executor) {
+        this.properties = properties;
+        this.prober = prober;
+        this.statusTracker = statusTracker;
+        this.overhead = overhead;
+        this.executor = executor;
+    }
+
+    /**
+     * Releases the prober's threads when the context shuts down
+     */
+    @Override
+    public void close() {
+        prober.close();
+    }
+
+    @Override
+    public boolean isCritical() {
+        return properties.getConnectivity().getTargets().stream().anyMatch(target -> !target.isNonCritical());
+    }
+
+    @Override
+    public Health health() {
+        List<ConnectivityTarget> targets = properties.getConnectivity().getTargets();
+        if (targets.isEmpty()) {
+            return Health.unknown().withDetail("status", "NO_TARGETS").build();
+        }
+        try (MonitoringOverhead.Measurement measurement = overhead.start(Subsystem.PROBE)) {
+            boolean criticalDown = false;
+            boolean nonCriticalDown = false;
+            Map<String, Object> details = new LinkedHashMap<>();
+            for (ConnectivityProber.Result result : executor.call(Subsystem.PROBE, () -> prober.probe(targets))) {
+                ConnectivityTarget target = result.target();
+                Status status = result.reachable() ? Status.UP : target.isNonCritical() ? Status.UNKNOWN : Status.DOWN;
+                criticalDown |= Status.DOWN.equals(status);
+                nonCriticalDown |= Status.UNKNOWN.equals(status);
+                if (!result.reachable()) {
+                    log.warn("Connectivity check failed for {} ({}:{}): {}", target.getName(), target.getHost(),
+                            target.getPort(), result.error());
+                }
+                statusTracker.record("connectivity/" + target.getName(), status, result.error(), result.totalNanos());
+                details.put(target.getName(), targetDetails(result, status));
+            }
+            Health.Builder builder = criticalDown ? Health.down() : nonCriticalDown ? Health.unknown() : Health.up();
+            return overhead.annotate(builder.withDetails(details).build());
+        } catch (Exception e) {
+            // The prober reports per-target failures itself; this is an interrupt while waiting for a probe permit
+            return Health.unknown().withException(e).build();
+        }
+    }
+
+    private static Map<String, Object> targetDetails(ConnectivityProber.Result result, Status status) {
+        ConnectivityTarget target = result.target();
+        Map<String, Object> detail = new LinkedHashMap<>();
+        detail.put("status", status.getCode());
+        detail.put("mode", target.getMode());
+        detail.put("target", target.getMode() == ProbeMode.DNS ? target.getHost() : target.getHost() + ":" + target.getPort());
+        detail.put("critical", !target.isNonCritical());
+        if (result.dnsNanos() > 0) {
+            detail.put("dnsTime", TimeUnit.NANOSECONDS.toMillis(result.dnsNanos()) + "ms");
+        }
+        if (result.connectNanos() > 0) {
+            detail.put("connectTime", TimeUnit.NANOSECONDS.toMillis(result.connectNanos()) + "ms");
+        }
+        if (result.tlsNanos() > 0) {
+            detail.put("tlsTime", TimeUnit.NANOSECONDS.toMillis(result.tlsNanos()) + "ms");
+        }
+        if (result.tlsProtocol() != null) {
+            detail.put("tlsProtocol", result.tlsProtocol());
+        }
+        if (result.certificateDaysLeft() != null) {
+            detail.put("certificateExpiresInDays", result.certificateDaysLeft());
+        }
+        if (result.error() != null) {
+            detail.put("error", result.error());
+        }
+        return detail;
+    }
+}
@@ -0,0 +1,289 @@
+package com.smartuser.healthmonitor.health;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties.ConnectivityTarget;
+import com.smartuser.healthmonitor.HealthMonitorProperties.ProbeMode;
+
+/**
+ * Probes many endpoints in one pass, much cheaper than an HTTP round trip:
+ * <ol>
+ * <li>DNS: every host is resolved concurrently on virtual threads</li>
+ * <li>TCP: all connects are non-blocking {@link SocketChannel}s multiplexed on one {@link Selector},
+ * so the calling thread alone waits for hundreds of targets</li>
+ * <li>TLS (optional): a handshake with hostname verification over the connection just made,
+ * on a virtual thread, reporting negotiated protocol and days until the server certificate expires</li>
+ * </ol>
+ * Each target keeps its own timeout; a target fails at the first step that fails. A DNS
+ * lookup cannot be interrupted, so one that times out is abandoned to finish on its own
+ * virtual thread of the prober's long-lived executor instead of holding up the probe; closing
+ * the prober interrupts whatever is left there.
+ */
+public class ConnectivityProber implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Outcome for one target. Step durations are 0 when the step did not run.
+     */
+    public record Result(ConnectivityTarget target, boolean reachable, long dnsNanos, long connectNanos,
+                         long tlsNanos, String error, String tlsProtocol, Long certificateDaysLeft) {
+
+        long totalNanos() {
+            return dnsNanos + connectNanos + tlsNanos;
+        }
+    }
+
+    public List<Result> probe(List<ConnectivityTarget> targets) {
+        List<Attempt> attempts = new ArrayList<>(targets.size());
+        for (ConnectivityTarget target : targets) {
+            attempts.add(new Attempt(target));
+        }
+        resolve(attempts);
+        connect(attempts);
+        handshake(attempts);
+        List<Result> results = new ArrayList<>(attempts.size());
+        for (Attempt attempt : attempts) {
+            results.add(new Result(attempt.target, attempt.error == null, attempt.dnsNanos, attempt.connectNanos,
+                    attempt.tlsNanos, attempt.error, attempt.tlsProtocol, attempt.certificateDaysLeft));
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void resolve(List<Attempt> attempts) {
+        List<Future<?>> lookups = new ArrayList<>(attempts.size());
+        long start = System.nanoTime();
+        for (Attempt attempt : attempts) {
+            lookups.add(executor.submit(() -> {
+                long lookupStart = System.nanoTime();
+                InetAddress address = InetAddress.getByName(attempt.target.getHost());
+                attempt.dnsNanos = System.nanoTime() - lookupStart;
+                attempt.address = address;
+                return address;
+            }));
+        }
+        for (int i = 0; i < attempts.size(); i++) {
+            Attempt attempt = attempts.get(i);
+            long remaining = attempt.target.getTimeout() - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            try {
+                lookups.get(i).get(Math.max(remaining, 0), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                lookups.get(i).cancel(true);
+                attempt.address = null;
+                attempt.fail("DNS timeout after " + attempt.target.getTimeout() + "ms");
+            } catch (ExecutionException e) {
+                attempt.fail("DNS resolution failed: " + e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                attempt.fail("Interrupted");
+            }
+        }
+    }
+
+    private void connect(List<Attempt> attempts) {
+        List<Attempt> pending = new ArrayList<>();
+        try (Selector selector = Selector.open()) {
+            long start = System.nanoTime();
+            for (Attempt attempt : attempts) {
+                if (attempt.error != null || attempt.target.getMode() == ProbeMode.DNS) {
+                    continue;
+                }
+                attempt.deadline = start + TimeUnit.MILLISECONDS.toNanos(attempt.target.getTimeout());
+                attempt.connectStart = System.nanoTime();
+                try {
+                    SocketChannel channel = SocketChannel.open();
+                    attempt.channel = channel;
+                    channel.configureBlocking(false);
+                    if (channel.connect(new InetSocketAddress(attempt.address, attempt.target.getPort()))) {
+                        attempt.connected();
+                    } else {
+                        channel.register(selector, SelectionKey.OP_CONNECT, attempt);
+                        pending.add(attempt);
+                    }
+                } catch (IOException e) {
+                    attempt.fail("Connect failed: " + e.getMessage());
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                long wait = TimeUnit.NANOSECONDS.toMillis(earliestDeadline(pending) - System.nanoTime());
+                if (wait > 0) {
+                    selector.select(wait);
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Attempt attempt = (Attempt) key.attachment();
+                    try {
+                        if (((SocketChannel) key.channel()).finishConnect()) {
+                            attempt.connected();
+                        }
+                    } catch (IOException e) {
+                        attempt.fail("Connect failed: " + e.getMessage());
+                    }
+                    key.cancel();
+                }
+                long now = System.nanoTime();
+                pending.removeIf(attempt -> {
+                    if (attempt.connectNanos > 0 || attempt.error != null) {
+                        return true;
+                    }
+                    if (now >= attempt.deadline) {
+                        attempt.fail("Connect timeout after " + attempt.target.getTimeout() + "ms");
+                        return true;
+                    }
+                    return false;
+                });
+            }
+        } catch (IOException e) {
+            for (Attempt attempt : attempts) {
+                if (attempt.error == null && attempt.connectNanos == 0 && attempt.target.getMode() != ProbeMode.DNS) {
+                    attempt.fail("Selector failed: " + e.getMessage());
+                }
+            }
+        } finally {
+            for (Attempt attempt : attempts) {
+                // TLS targets keep their connection for the handshake
+                if (attempt.error != null || attempt.target.getMode() != ProbeMode.TLS) {
+                    attempt.closeChannel();
+                }
+            }
+        }
+    }
+
+    private static long earliestDeadline(List<Attempt> pending) {
+        long earliest = Long.MAX_VALUE;
+        for (Attempt attempt : pending) {
+            earliest = Math.min(earliest, attempt.deadline);
+        }
+        return earliest;
+    }
+
+    private void handshake(List<Attempt> attempts) {
+        List<Future<?>> handshakes = new ArrayList<>();
+        for (Attempt attempt : attempts) {
+            if (attempt.error == null && attempt.target.getMode() == ProbeMode.TLS) {
+                handshakes.add(executor.submit(() -> tlsHandshake(attempt)));
+            }
+        }
+        for (Future<?> handshake : handshakes) {
+            try {
+                handshake.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                // tlsHandshake records its own failures
+            }
+        }
+    }
+
+    /**
+     * Runs on a virtual thread, layering TLS over the channel connected by {@link #connect};
+     * the socket read timeout, set to what the connect left of the target's timeout, bounds the handshake
+     */
+    private void tlsHandshake(Attempt attempt) {
+        long start = System.nanoTime();
+        long remaining = TimeUnit.NANOSECONDS.toMillis(attempt.deadline - start);
+        SocketChannel channel = attempt.channel;
+        if (remaining <= 0) {
+            // a read timeout of 0 would mean no timeout at all
+            attempt.fail("TLS handshake timeout after " + attempt.target.getTimeout() + "ms");
+            attempt.closeChannel();
+            return;
+        }
+        int timeout = (int) Math.min(remaining, Integer.MAX_VALUE);
+        try {
+            // the selector is closed, so the channel is deregistered and may block again
+            channel.configureBlocking(true);
+            Socket plain = channel.socket();
+            plain.setSoTimeout(timeout);
+            try (SSLSocket socket = (SSLSocket) ((SSLSocketFactory) SSLSocketFactory.getDefault())
+                    .createSocket(plain, attempt.target.getHost(), attempt.target.getPort(), true)) {
+                SSLParameters parameters = socket.getSSLParameters();
+                parameters.setEndpointIdentificationAlgorithm("HTTPS");
+                socket.setSSLParameters(parameters);
+                socket.startHandshake();
+                attempt.tlsNanos = System.nanoTime() - start;
+                attempt.tlsProtocol = socket.getSession().getProtocol();
+                Certificate[] chain = socket.getSession().getPeerCertificates();
+                if (chain.length > 0 && chain[0] instanceof X509Certificate leaf) {
+                    attempt.certificateDaysLeft = Duration.between(Instant.now(), leaf.getNotAfter().toInstant()).toDays();
+                }
+            }
+        } catch (IOException e) {
+            attempt.tlsNanos = System.nanoTime() - start;
+            attempt.fail("TLS handshake failed: " + e.getMessage());
+        } finally {
+            attempt.closeChannel();
+        }
+    }
+
+    private static final class Attempt {
+
+        private final ConnectivityTarget target;
+        private InetAddress address;
+        private SocketChannel channel;
+        private long deadline;
+        private long connectStart;
+        private long dnsNanos;
+        private long connectNanos;
+        private long tlsNanos;
+        private volatile String error;
+        private String tlsProtocol;
+        private Long certificateDaysLeft;
+
+        private Attempt(ConnectivityTarget target) {
+            this.target = target;
+        }
+
+        private void connected() {
+            connectNanos = Math.max(1, System.nanoTime() - connectStart);
+        }
+
+        private void fail(String message) {
+            if (error == null) {
+                error = message;
+            }
+        }
+
+        private void closeChannel() {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    // Nothing to do, the probe outcome is already recorded
+                }
+            }
+        }
+    }
+}
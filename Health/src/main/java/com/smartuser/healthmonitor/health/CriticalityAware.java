@@ -0,0 +1,10 @@
+package com.smartuser.healthmonitor.health;
+
+/**
+ * Implemented by indicators that declare whether their failure should take the
+ * instance out of service. Only critical indicators feed the readiness probe.
+ */
+public interface CriticalityAware {
+
+    boolean isCritical();
+}
@@ -10,9 +10,15 @@ import javax.sql.DataSource;
 
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
-import org.springframework.stereotype.Component;
 
 import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.execution.MonitorExecutor;
+import com.smartuser.healthmonitor.jfr.HealthProbeEvent;
+import com.smartuser.healthmonitor.latency.ProbeLatencyMonitor;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+import com.smartuser.healthmonitor.overhead.ProbeResultCache;
+import com.smartuser.healthmonitor.overhead.Subsystem;
+import com.smartuser.healthmonitor.status.HealthStatusTracker;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,22 +26,60 @@ import lombok.extern.slf4j.Slf4j;
  * Health indicator for database connectivity
  */
 @Slf4j
-@Component
-public class DatabaseHealthIndicator implements HealthIndicator {
+public class DatabaseHealthIndicator implements HealthIndicator, CriticalityAware {
 
     private final DataSource dataSource;
     private final HealthMonitorProperties properties;
+    private final ProbeLatencyMonitor latencyMonitor;
+    private final HealthStatusTracker statusTracker;
+    private final MonitoringOverhead overhead;
+    private final MonitorExecutor executor;
+    private final ProbeResultCache resultCache;
     private static final int TIMEOUT_SECONDS = 2;
 
-    public DatabaseHealthIndicator(DataSource dataSource, HealthMonitorProperties properties) {
+    public DatabaseHealthIndicator(DataSource dataSource, HealthMonitorProperties properties,
+                                   ProbeLatencyMonitor latencyMonitor, HealthStatusTracker statusTracker,
+                                   MonitoringOverhead overhead, MonitorExecutor executor) {
         this.dataSource = dataSource;
         this.properties = properties;
+        this.latencyMonitor = latencyMonitor;
+        this.statusTracker = statusTracker;
+        this.overhead = overhead;
+        this.executor = executor;
+        this.resultCache = new ProbeResultCache(overhead, properties.getProbes().getRefreshIntervalMs());
+    }
+
+    /**
+     * The application cannot serve traffic without its database
+     */
+    @Override
+    public boolean isCritical() {
+        return true;
     }
 
     @Override
     public Health health() {
+        Health cached = resultCache.reusable();
+        if (cached != null) {
+            return cached;
+        }
+        try (MonitoringOverhead.Measurement measurement = overhead.start(Subsystem.PROBE)) {
+            return resultCache.remember(overhead.annotate(executor.call(Subsystem.PROBE, this::probe)));
+        } catch (Exception e) {
+            // probe() maps its own failures; this is an interrupt while waiting for a probe permit
+            return Health.down(e).build();
+        }
+    }
+
+    private Health probe() {
         Instant start = Instant.now();
+        HealthProbeEvent probeEvent = HealthProbeEvent.start();
+        long connectNanos = 0;
+        long queryNanos = 0;
+        Health health;
+        long connectStart = System.nanoTime();
         try (Connection connection = dataSource.getConnection()) {
+            connectNanos = System.nanoTime() - connectStart;
             DatabaseMetaData metaData = connection.getMetaData();
             
             // Use virtual thread executor for JDK 21 (Project Loom) - keep executor open during connection
@@ -45,6 +89,7 @@ public class DatabaseHealthIndicator implements HealthIndicator {
                 connection.setNetworkTimeout(executor, TIMEOUT_SECONDS * 1000);
                 
                 // Test heartbeat with connection validation
+                long queryStart = System.nanoTime();
                 long heartbeatStart = System.currentTimeMillis();
                 connection.isValid(2); // Validate connection and measure heartbeat
                 long heartbeatTime = System.currentTimeMillis() - heartbeatStart;
@@ -52,6 +97,7 @@ public class DatabaseHealthIndicator implements HealthIndicator {
                 try (Statement statement = connection.createStatement()) {
                     statement.execute("SELECT 1");
                 }
+                queryNanos = System.nanoTime() - queryStart;
                 
                 Duration duration = Duration.between(start, Instant.now());
                 
@@ -70,30 +116,41 @@ public class DatabaseHealthIndicator implements HealthIndicator {
                             .withDetail("username", metaData.getUserName());
                 }
                 
-                // Add database-specific information
-                try {
-                    healthBuilder.withDetail("catalog", connection.getCatalog())
-                            .withDetail("schema", connection.getSchema())
-                            .withDetail("maxConnections", metaData.getMaxConnections())
-                            .withDetail("defaultTransactionIsolation", metaData.getDefaultTransactionIsolation());
-                } catch (Exception e) {
-                    // Some databases may not support all metadata
-                    log.debug("Could not retrieve some database metadata: {}", e.getMessage());
+                // Add database-specific information (skipped while over the overhead budget)
+                if (!overhead.isThrottled()) {
+                    try {
+                        healthBuilder.withDetail("catalog", connection.getCatalog())
+                                .withDetail("schema", connection.getSchema())
+                                .withDetail("maxConnections", metaData.getMaxConnections())
+                                .withDetail("defaultTransactionIsolation", metaData.getDefaultTransactionIsolation());
+                    } catch (Exception e) {
+                        // Some databases may not support all metadata
+                        log.debug("Could not retrieve some database metadata: {}", e.getMessage());
+                    }
                 }
                 
-                return healthBuilder.build();
+                health = healthBuilder.build();
             } finally {
                 executor.shutdown();
             }
         } catch (Exception e) {
+            if (connectNanos == 0) {
+                // Failed while acquiring the connection
+                connectNanos = System.nanoTime() - connectStart;
+            }
             Duration duration = Duration.between(start, Instant.now());
             log.warn("Database health check failed: {}", e.getMessage());
-            return Health.down()
+            health = Health.down()
                     .withDetail("error", e.getMessage())
                     .withDetail("errorType", e.getClass().getSimpleName())
                     .withDetail("responseTime", duration.toMillis() + "ms")
                     .build();
         }
+        long totalNanos = System.nanoTime() - connectStart;
+        health = latencyMonitor.apply("db", health, totalNanos);
+        probeEvent.complete("db", health.getStatus().getCode(), connectNanos, queryNanos, properties.getJfr());
+        statusTracker.record("db", health, totalNanos);
+        return health;
     }
 }
 
@@ -1,90 +1,154 @@
 package com.smartuser.healthmonitor.health;
 
 import java.time.Duration;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.http.HttpStatusCode;
-import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.execution.MonitorExecutor;
+import com.smartuser.healthmonitor.jfr.HealthProbeEvent;
+import com.smartuser.healthmonitor.latency.ProbeLatencyMonitor;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+import com.smartuser.healthmonitor.overhead.ProbeResultCache;
+import com.smartuser.healthmonitor.overhead.Subsystem;
+import com.smartuser.healthmonitor.status.HealthStatusTracker;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Health indicator for external API availability
  */
 @Slf4j
-@Component
-public class ExternalApiHealthIndicator implements HealthIndicator {
+public class ExternalApiHealthIndicator implements HealthIndicator, CriticalityAware {
 
     private final HealthMonitorProperties properties;
-    private final WebClient webClient;
+    private final ProbeLatencyMonitor latencyMonitor;
+    private final HealthStatusTracker statusTracker;
+    private final MonitoringOverhead overhead;
+    private final MonitorExecutor executor;
+    private final ProbeResultCache resultCache;
+    private final SingletonSupplier<WebClient> webClient;
 
-    public ExternalApiHealthIndicator(HealthMonitorProperties properties) {
+    public ExternalApiHealthIndicator(HealthMonitorProperties properties, ProbeLatencyMonitor latencyMonitor,
+                                      HealthStatusTracker statusTracker, MonitoringOverhead overhead,
+                                      MonitorExecutor executor) {
         this.properties = properties;
-        this.webClient = WebClient.builder()
-                .build();
+        this.latencyMonitor = latencyMonitor;
+        this.statusTracker = statusTracker;
+        this.overhead = overhead;
+        this.executor = executor;
+        this.resultCache = new ProbeResultCache(overhead, properties.getProbes().getRefreshIntervalMs());
+        // Built on first probe so host apps don't pay for Reactor Netty setup at startup
+        this.webClient = SingletonSupplier.of(() -> WebClient.builder().build());
+    }
+
+    @Override
+    public boolean isCritical() {
+        return !properties.getExternal().isNonCritical();
     }
 
     @Override
     public Health health() {
+        try (MonitoringOverhead.Measurement measurement = overhead.start(Subsystem.PROBE)) {
+            return executor.call(Subsystem.PROBE, () -> healthAsync().block());
+        } catch (Exception e) {
+            return toErrorHealth(properties.getExternal().getUrl(), properties.getExternal().getTimeout(), e);
+        }
+    }
+
+    /**
+     * Non-blocking probe used by the reactive indicator. Errors are mapped to
+     * a DOWN/UNKNOWN health, so the returned Mono never fails.
+     * While over the overhead budget a recent result is replayed instead of calling out.
+     */
+    public Mono<Health> healthAsync() {
+        return Mono.defer(() -> {
+            Health cached = resultCache.reusable();
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            HealthProbeEvent probeEvent = HealthProbeEvent.start();
+            long requestStart = System.nanoTime();
+            return Mono.defer(this::probe)
+                    .onErrorResume(e -> Mono.just(toErrorHealth(properties.getExternal().getUrl(),
+                            properties.getExternal().getTimeout(), e)))
+                    .map(health -> latencyMonitor.apply("externalApi", health, System.nanoTime() - requestStart))
+                    .doOnNext(health -> probeEvent.complete("externalApi", health.getStatus().getCode(), 0,
+                            System.nanoTime() - requestStart, properties.getJfr()))
+                    // a transition may deliver an alert inline (blocking webhook), which must not run on the event loop
+                    .publishOn(Schedulers.boundedElastic())
+                    .doOnNext(health -> statusTracker.record("externalApi", health, System.nanoTime() - requestStart))
+                    .map(health -> resultCache.remember(overhead.annotate(health)));
+        });
+    }
+
+    private Mono<Health> probe() {
         if (!properties.getExternal().isEnabled()) {
-            return Health.unknown()
+            return Mono.just(Health.unknown()
                     .withDetail("status", "DISABLED")
-                    .build();
+                    .build());
         }
 
         String url = properties.getExternal().getUrl();
         long timeout = properties.getExternal().getTimeout();
 
-        try {
-            HttpStatusCode statusCode = webClient.get()
-                    .uri(url)
-                    .retrieve()
-                    .toBodilessEntity()
-                    .timeout(Duration.ofMillis(timeout))
-                    .map(response -> response.getStatusCode())
-                    .block();
-
-            if (statusCode != null && statusCode.is2xxSuccessful()) {
-                return Health.up()
-                        .withDetail("url", url)
-                        .withDetail("status", statusCode.value())
-                        .withDetail("responseTime", "< " + timeout + "ms")
-                        .build();
-            } else {
-                return buildHealthResponse(url, statusCode != null ? String.valueOf(statusCode.value()) : "UNKNOWN", 
-                        "Non-2xx response", null);
-            }
-        } catch (WebClientResponseException e) {
+        return webClient.obtain().get()
+                .uri(url)
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(Duration.ofMillis(timeout))
+                .map(response -> toHealth(url, response.getStatusCode(), timeout));
+    }
+
+    private Health toHealth(String url, HttpStatusCode statusCode, long timeout) {
+        if (statusCode != null && statusCode.is2xxSuccessful()) {
+            return Health.up()
+                    .withDetail("url", url)
+                    .withDetail("status", statusCode.value())
+                    .withDetail("responseTime", "< " + timeout + "ms")
+                    .build();
+        }
+        return buildHealthResponse(url, statusCode != null ? String.valueOf(statusCode.value()) : "UNKNOWN", 
+                "Non-2xx response", null);
+    }
+
+    private Health toErrorHealth(String url, long timeout, Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
             log.warn("External API health check failed for {}: {}", url, e.getMessage());
-            return buildHealthResponse(url, String.valueOf(e.getStatusCode().value()), 
+            return buildHealthResponse(url, String.valueOf(responseException.getStatusCode().value()), 
                     null, e.getMessage());
-        } catch (org.springframework.web.reactive.function.client.WebClientRequestException e) {
+        }
+        if (e instanceof WebClientRequestException) {
             log.warn("External API connection error for {}: {}", url, e.getMessage());
             return buildHealthResponse(url, null, 
                     "Connection error - check network connectivity", e.getMessage());
-        } catch (Exception e) {
-            // Check if root cause is timeout
-            Throwable rootCause = e.getCause();
-            String errorMessage = e.getMessage();
-            boolean isTimeout = rootCause instanceof java.util.concurrent.TimeoutException ||
-                               (errorMessage != null && (errorMessage.contains("timeout") || 
-                                                         errorMessage.contains("Timeout")));
-            
-            if (isTimeout) {
-                log.warn("External API timeout for {}: {}", url, errorMessage);
-                return buildHealthResponse(url, null, 
-                        "Timeout after " + timeout + "ms", "Request timeout");
-            }
-            
-            log.warn("External API health check error for {}: {}", url, errorMessage);
+        }
+
+        // Check if root cause is timeout (block() wraps it, the reactive pipeline does not)
+        String errorMessage = e.getMessage();
+        boolean isTimeout = e instanceof TimeoutException ||
+                           e.getCause() instanceof TimeoutException ||
+                           (errorMessage != null && (errorMessage.contains("timeout") || 
+                                                     errorMessage.contains("Timeout")));
+        
+        if (isTimeout) {
+            log.warn("External API timeout for {}: {}", url, errorMessage);
             return buildHealthResponse(url, null, 
-                    "Unexpected error during health check", errorMessage);
+                    "Timeout after " + timeout + "ms", "Request timeout");
         }
+        
+        log.warn("External API health check error for {}: {}", url, errorMessage);
+        return buildHealthResponse(url, null, 
+                "Unexpected error during health check", errorMessage);
     }
 
     /**
@@ -9,9 +9,11 @@ import java.util.stream.Collectors;
 
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
-import org.springframework.stereotype.Component;
 
 import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+import com.smartuser.healthmonitor.overhead.Subsystem;
+import com.smartuser.healthmonitor.status.HealthStatusTracker;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,15 +22,27 @@ import lombok.extern.slf4j.Slf4j;
  * Errors are recorded explicitly via recordError() method
  */
 @Slf4j
-@Component
-public class LogHealthIndicator implements HealthIndicator {
+public class LogHealthIndicator implements HealthIndicator, CriticalityAware {
 
     private final HealthMonitorProperties properties;
+    private final HealthStatusTracker statusTracker;
+    private final MonitoringOverhead overhead;
     private final ConcurrentLinkedQueue<LogEntry> recentErrors = new ConcurrentLinkedQueue<>();
     private static final int MAX_ERRORS_TO_TRACK = 100;
 
-    public LogHealthIndicator(HealthMonitorProperties properties) {
+    public LogHealthIndicator(HealthMonitorProperties properties, HealthStatusTracker statusTracker,
+                              MonitoringOverhead overhead) {
         this.properties = properties;
+        this.statusTracker = statusTracker;
+        this.overhead = overhead;
+    }
+
+    /**
+     * Error spikes are reported but never take the instance out of service
+     */
+    @Override
+    public boolean isCritical() {
+        return false;
     }
 
     /**
@@ -50,6 +64,12 @@ public class LogHealthIndicator implements HealthIndicator {
 
     @Override
     public Health health() {
+        try (MonitoringOverhead.Measurement measurement = overhead.start(Subsystem.PROBE)) {
+            return evaluate();
+        }
+    }
+
+    private Health evaluate() {
         if (!properties.getLogs().isEnabled()) {
             return Health.unknown()
                     .withDetail("status", "DISABLED")
@@ -64,17 +84,21 @@ public class LogHealthIndicator implements HealthIndicator {
                 .withDetail("threshold", threshold);
 
         if (recentErrorsList.size() >= threshold) {
-            List<String> errorMessages = recentErrorsList.stream()
-                    .limit(threshold)
-                    .map(LogEntry::getMessage)
-                    .collect(Collectors.toList());
-            
             builder.down()
-                    .withDetail("status", "ERROR_THRESHOLD_EXCEEDED")
-                    .withDetail("recentErrors", errorMessages);
+                    .withDetail("status", "ERROR_THRESHOLD_EXCEEDED");
+            // Message list is the expensive part, dropped while over the overhead budget
+            if (!overhead.isThrottled()) {
+                List<String> errorMessages = recentErrorsList.stream()
+                        .limit(threshold)
+                        .map(LogEntry::getMessage)
+                        .collect(Collectors.toList());
+                builder.withDetail("recentErrors", errorMessages);
+            }
         }
 
-        return builder.build();
+        Health health = overhead.annotate(builder.build());
+        statusTracker.record("logs", health.getStatus(), (String) health.getDetails().get("status"));
+        return health;
     }
 
     private List<LogEntry> getRecentErrors(int maxCount) {
@@ -0,0 +1,53 @@
+package com.smartuser.healthmonitor.health;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.execution.MonitorExecutor;
+import com.smartuser.healthmonitor.latency.ProbeLatencyMonitor;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+import com.smartuser.healthmonitor.status.HealthStatusTracker;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Database health indicator for reactive (WebFlux) applications.
+ * JDBC is inherently blocking, so the check runs on a dedicated probe scheduler
+ * (bounded elastic or virtual threads) and never on the calling event loop.
+ */
+public class ReactiveDatabaseHealthIndicator implements ReactiveHealthIndicator, CriticalityAware {
+
+    private final DatabaseHealthIndicator delegate;
+    private final Scheduler probeScheduler;
+
+    public ReactiveDatabaseHealthIndicator(DataSource dataSource, HealthMonitorProperties properties,
+                                           ProbeLatencyMonitor latencyMonitor, HealthStatusTracker statusTracker,
+                                           MonitoringOverhead overhead, MonitorExecutor executor,
+                                           Scheduler probeScheduler) {
+        this.delegate = new DatabaseHealthIndicator(dataSource, properties, latencyMonitor, statusTracker, overhead,
+                executor);
+        this.probeScheduler = probeScheduler;
+    }
+
+    /**
+     * The blocking indicator this one wraps, for callers that may block (metrics scrapes)
+     */
+    public DatabaseHealthIndicator getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean isCritical() {
+        return delegate.isCritical();
+    }
+
+    @Override
+    public Mono<Health> health() {
+        return Mono.fromCallable(delegate::health)
+                .subscribeOn(probeScheduler);
+    }
+}
@@ -0,0 +1,44 @@
+package com.smartuser.healthmonitor.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.execution.MonitorExecutor;
+import com.smartuser.healthmonitor.latency.ProbeLatencyMonitor;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+import com.smartuser.healthmonitor.status.HealthStatusTracker;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking external API health indicator for reactive (WebFlux) applications.
+ * The WebClient exchange is never blocked on, so no event loop thread waits on the probe.
+ */
+public class ReactiveExternalApiHealthIndicator implements ReactiveHealthIndicator, CriticalityAware {
+
+    private final ExternalApiHealthIndicator delegate;
+
+    public ReactiveExternalApiHealthIndicator(HealthMonitorProperties properties, ProbeLatencyMonitor latencyMonitor,
+                                              HealthStatusTracker statusTracker, MonitoringOverhead overhead,
+                                              MonitorExecutor executor) {
+        this.delegate = new ExternalApiHealthIndicator(properties, latencyMonitor, statusTracker, overhead, executor);
+    }
+
+    /**
+     * The blocking indicator this one wraps, for callers that may block (metrics scrapes)
+     */
+    public ExternalApiHealthIndicator getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean isCritical() {
+        return delegate.isCritical();
+    }
+
+    @Override
+    public Mono<Health> health() {
+        return delegate.healthAsync();
+    }
+}
@@ -0,0 +1,90 @@
+package com.smartuser.healthmonitor.history;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Append-only bit stream over a fixed region of an off-heap chunk.
+ * Bits are written MSB-first; the region is zeroed on allocation, so only one bits are stored.
+ */
+final class BitColumn {
+
+    private final ByteBuffer region;
+    private final long capacityBits;
+    private long bitPosition;
+
+    BitColumn(ByteBuffer region) {
+        this.region = region;
+        this.capacityBits = (long) region.capacity() * 8;
+    }
+
+    boolean hasRoom(int bits) {
+        return bitPosition + bits <= capacityBits;
+    }
+
+    long bitLength() {
+        return bitPosition;
+    }
+
+    void writeBit(boolean bit) {
+        if (bit) {
+            int index = (int) (bitPosition >>> 3);
+            region.put(index, (byte) (region.get(index) | (0x80 >>> (bitPosition & 7))));
+        }
+        bitPosition++;
+    }
+
+    /**
+     * Write the low {@code bits} bits of {@code value}
+     */
+    void write(long value, int bits) {
+        for (int i = bits - 1; i >= 0; i--) {
+            writeBit(((value >>> i) & 1) != 0);
+        }
+    }
+
+    /**
+     * Reader over the bits written so far
+     */
+    Reader reader() {
+        return new Reader(region, bitPosition);
+    }
+
+    static final class Reader {
+
+        private final ByteBuffer region;
+        private final long limitBits;
+        private long bitPosition;
+
+        private Reader(ByteBuffer region, long limitBits) {
+            this.region = region;
+            this.limitBits = limitBits;
+        }
+
+        boolean hasMore() {
+            return bitPosition < limitBits;
+        }
+
+        boolean readBit() {
+            int index = (int) (bitPosition >>> 3);
+            boolean bit = (region.get(index) & (0x80 >>> (bitPosition & 7))) != 0;
+            bitPosition++;
+            return bit;
+        }
+
+        long read(int bits) {
+            long value = 0;
+            for (int i = 0; i < bits; i++) {
+                value = (value << 1) | (readBit() ? 1 : 0);
+            }
+            return value;
+        }
+
+        /**
+         * Read a {@code bits}-wide two's complement value
+         */
+        long readSigned(int bits) {
+            long value = read(bits);
+            return (value << (64 - bits)) >> (64 - bits);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.smartuser.healthmonitor.history;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * One component's chunk ring: a single active chunk plus sealed chunks, oldest first.
+ * Sealed chunks are dropped once they age past retention or the byte budget is exceeded.
+ */
+final class ComponentHistory {
+
+    private final Deque<HistoryChunk> sealed = new ArrayDeque<>();
+    private HistoryChunk active;
+    private long totalSamples;
+
+    synchronized void append(long timestamp, long latencyMicros, int statusCode,
+                             int chunkBytes, long maxBytes, long retainAfter) {
+        if (active == null) {
+            active = new HistoryChunk(chunkBytes);
+        }
+        if (!active.append(timestamp, latencyMicros, statusCode)) {
+            active.seal();
+            sealed.addLast(active);
+            active = new HistoryChunk(chunkBytes);
+            active.append(timestamp, latencyMicros, statusCode);
+        }
+        totalSamples++;
+        while (!sealed.isEmpty()
+                && (sealed.peekFirst().lastTimestamp() < retainAfter || footprintBytes() > maxBytes)) {
+            sealed.removeFirst();
+        }
+    }
+
+    synchronized void forEach(long from, long to, HistoryChunk.SampleVisitor visitor) {
+        for (HistoryChunk chunk : sealed) {
+            visitIfOverlapping(chunk, from, to, visitor);
+        }
+        if (active != null) {
+            visitIfOverlapping(active, from, to, visitor);
+        }
+    }
+
+    private static void visitIfOverlapping(HistoryChunk chunk, long from, long to, HistoryChunk.SampleVisitor visitor) {
+        if (chunk.count() == 0 || chunk.lastTimestamp() < from || chunk.firstTimestamp() > to) {
+            return;
+        }
+        chunk.forEach((timestamp, latencyMicros, statusCode) -> {
+            if (timestamp >= from && timestamp <= to) {
+                visitor.visit(timestamp, latencyMicros, statusCode);
+            }
+        });
+    }
+
+    synchronized long footprintBytes() {
+        long bytes = 0;
+        for (HistoryChunk chunk : sealed) {
+            bytes += chunk.sizeBytes();
+        }
+        return active != null ? bytes + active.sizeBytes() : bytes;
+    }
+
+    synchronized long retainedSamples() {
+        long samples = active != null ? active.count() : 0;
+        for (HistoryChunk chunk : sealed) {
+            samples += chunk.count();
+        }
+        return samples;
+    }
+
+    synchronized long totalSamples() {
+        return totalSamples;
+    }
+}
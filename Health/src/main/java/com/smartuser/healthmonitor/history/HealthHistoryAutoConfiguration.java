@@ -0,0 +1,49 @@
+package com.smartuser.healthmonitor.history;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import com.smartuser.healthmonitor.HealthMonitorAutoConfiguration;
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+
+/**
+ * Records every health sample into the compressed history store and exposes /actuator/healthhistory.
+ * Optionally journals samples and transitions to disk so history survives restarts.
+ */
+@AutoConfiguration(after = HealthMonitorAutoConfiguration.class)
+@EnableConfigurationProperties(HealthMonitorProperties.class)
+@ConditionalOnProperty(prefix = "health.monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(prefix = "health.monitor.history", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class HealthHistoryAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public HealthHistoryStore healthHistoryStore(HealthMonitorProperties properties) {
+        return new HealthHistoryStore(properties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "health.monitor.history.persistence", name = "enabled", havingValue = "true", matchIfMissing = false)
+    public HealthHistoryJournal healthHistoryJournal(HealthMonitorProperties properties,
+                                                     HealthHistoryStore healthHistoryStore,
+                                                     MonitoringOverhead monitoringOverhead) {
+        return new HealthHistoryJournal(properties, healthHistoryStore, monitoringOverhead);
+    }
+
+    @Bean
+    @ConditionalOnAvailableEndpoint(endpoint = HealthHistoryEndpoint.class)
+    @ConditionalOnMissingBean
+    public HealthHistoryEndpoint healthHistoryEndpoint(HealthHistoryStore healthHistoryStore,
+                                                       ObjectProvider<HealthHistoryJournal> healthHistoryJournal,
+                                                       HealthMonitorProperties properties) {
+        return new HealthHistoryEndpoint(healthHistoryStore, healthHistoryJournal.getIfAvailable(),
+                properties.getHistory().getMaxPoints());
+    }
+}
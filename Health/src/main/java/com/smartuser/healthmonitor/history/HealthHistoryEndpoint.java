@@ -0,0 +1,66 @@
+package com.smartuser.healthmonitor.history;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+/**
+ * Range queries over the health history at /actuator/healthhistory.
+ * {@code from}/{@code to} are epoch millis (default: the last hour), {@code step} is the
+ * bucket width in ms; it is widened so a response never exceeds maxPoints buckets.
+ * With persistence enabled the response also lists adopted transitions in the range.
+ */
+@Endpoint(id = "healthhistory")
+public class HealthHistoryEndpoint {
+
+    private static final long DEFAULT_RANGE_MS = Duration.ofHours(1).toMillis();
+
+    private final HealthHistoryStore store;
+    private final HealthHistoryJournal journal;
+    private final int maxPoints;
+
+    public HealthHistoryEndpoint(HealthHistoryStore store, @Nullable HealthHistoryJournal journal, int maxPoints) {
+        this.store = store;
+        this.journal = journal;
+        this.maxPoints = maxPoints;
+    }
+
+    @ReadOperation
+    public Map<String, Object> history(@Nullable Long from, @Nullable Long to, @Nullable Long step) {
+        return query(null, from, to, step);
+    }
+
+    @ReadOperation
+    public Map<String, Object> componentHistory(@Selector String component, @Nullable Long from,
+                                                @Nullable Long to, @Nullable Long step) {
+        return query(component, from, to, step);
+    }
+
+    private Map<String, Object> query(String component, Long from, Long to, Long step) {
+        long end = to != null ? to : System.currentTimeMillis();
+        long start = from != null ? Math.min(from, end) : end - DEFAULT_RANGE_MS;
+        long minimumStep = Math.max(1, (end - start) / Math.max(1, maxPoints - 1));
+        long stepMs = Math.max(step != null ? step : 0, minimumStep);
+
+        Map<String, List<HistoryPoint>> components = store.query(component, start, end, stepMs);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("from", start);
+        body.put("to", end);
+        body.put("step", stepMs);
+        body.put("components", components);
+        if (journal != null) {
+            // Adopted transitions survive restarts only through the journal
+            body.put("transitions", journal.transitions(component, start, end));
+        }
+        if (component == null) {
+            body.put("storage", store.stats());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,239 @@
+package com.smartuser.healthmonitor.history;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.context.SmartLifecycle;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.HealthMonitorProperties.HistoryPersistenceConfig;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+import com.smartuser.healthmonitor.overhead.Subsystem;
+import com.smartuser.healthmonitor.status.HealthSampleListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persists health samples and transitions to memory-mapped segment files so a restarted
+ * instance can still show what happened before it was killed.
+ * Probing threads only offer records to a bounded queue (dropping when full); a single
+ * daemon thread appends them to the current segment. On stop the writer appends what is
+ * still queued and forces the segment to disk before exiting. On start, segments within
+ * retention are replayed into {@link HealthHistoryStore}.
+ */
+@Slf4j
+public class HealthHistoryJournal implements HealthSampleListener, SmartLifecycle {
+
+    private final HealthMonitorProperties properties;
+    private final HealthHistoryStore store;
+    private final MonitoringOverhead overhead;
+    private final BlockingQueue<JournalRecord> queue;
+    private final Map<Long, JournalSegment> segments = new ConcurrentSkipListMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile Thread writer;
+    private JournalSegment current;
+
+    public HealthHistoryJournal(HealthMonitorProperties properties, HealthHistoryStore store,
+                                MonitoringOverhead overhead) {
+        this.properties = properties;
+        this.store = store;
+        this.overhead = overhead;
+        this.queue = new ArrayBlockingQueue<>(properties.getHistory().getPersistence().getQueueCapacity());
+    }
+
+    @Override
+    public void onSample(String component, Status status, long durationNanos, long timestamp) {
+        offer(JournalRecord.sample(component, status.getCode(), durationNanos, timestamp));
+    }
+
+    @Override
+    public void onTransition(String component, Status from, Status to, String reason, long timestamp) {
+        offer(JournalRecord.transition(component, from != null ? from.getCode() : null, to.getCode(), reason, timestamp));
+    }
+
+    private void offer(JournalRecord record) {
+        if (!queue.offer(record)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Persisted transitions in [from, to], oldest first
+     */
+    public List<JournalRecord> transitions(String component, long from, long to) {
+        List<JournalRecord> transitions = new ArrayList<>();
+        forEachRecord(from, to, record -> {
+            if (record.transition() && (component == null || component.equals(record.component()))) {
+                transitions.add(record);
+            }
+        });
+        return transitions;
+    }
+
+    public long getDroppedRecords() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void start() {
+        HistoryPersistenceConfig config = properties.getHistory().getPersistence();
+        Path directory = Paths.get(config.getDirectory());
+        try {
+            Files.createDirectories(directory);
+            loadSegments(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open health history directory " + directory.toAbsolutePath(), e);
+        }
+        long retainAfter = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(properties.getHistory().getRetentionHours());
+        int[] replayed = {0};
+        forEachRecord(retainAfter, Long.MAX_VALUE, record -> {
+            if (!record.transition()) {
+                store.onSample(record.component(), new Status(record.status()), record.durationNanos(), record.timestamp());
+                replayed[0]++;
+            }
+        });
+        log.info("Health history journal at {} ({} segments, {} samples replayed)",
+                directory.toAbsolutePath(), segments.size(), replayed[0]);
+
+        Thread thread = new Thread(() -> drain(directory, config), "health-history-journal");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread current = writer;
+        writer = null;
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writer != null;
+    }
+
+    /**
+     * Start before the probe refresher so replayed samples precede live ones
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1;
+    }
+
+    private void drain(Path directory, HistoryPersistenceConfig config) {
+        List<JournalRecord> batch = new ArrayList<>();
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                JournalRecord first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                }
+            } catch (InterruptedException e) {
+                // append what is queued, then exit
+                stopping = true;
+            }
+            stopping |= writer == null;
+            queue.drainTo(batch);
+            if (!batch.isEmpty()) {
+                write(directory, config, batch);
+                batch.clear();
+            }
+        }
+        if (current != null) {
+            current.force();
+        }
+    }
+
+    private void write(Path directory, HistoryPersistenceConfig config, List<JournalRecord> batch) {
+        try (MonitoringOverhead.Measurement measurement = overhead.start(Subsystem.HISTORY)) {
+            for (JournalRecord record : batch) {
+                append(directory, config, record);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Health history journal write failed: {}", e.getMessage());
+        }
+    }
+
+    private void append(Path directory, HistoryPersistenceConfig config, JournalRecord record) throws IOException {
+        if (current == null || !current.append(record)) {
+            if (current != null) {
+                current.force();
+            }
+            // Segment names must stay unique and ordered even if two roll within the same millisecond
+            long start = Math.max(record.timestamp(), current != null ? current.startTimestamp() + 1 : 0);
+            current = JournalSegment.create(directory, start, config.getSegmentBytes());
+            segments.put(current.startTimestamp(), current);
+            current.append(record);
+            deleteExpired();
+        }
+    }
+
+    /**
+     * A segment is expired once the segment after it started before the retention cutoff
+     */
+    private void deleteExpired() {
+        long retainAfter = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(properties.getHistory().getRetentionHours());
+        List<Long> starts = new ArrayList<>(segments.keySet());
+        for (int i = 0; i + 1 < starts.size() && starts.get(i + 1) < retainAfter; i++) {
+            JournalSegment expired = segments.remove(starts.get(i));
+            try {
+                Files.deleteIfExists(expired.path());
+            } catch (IOException e) {
+                log.debug("Could not delete expired journal segment {}: {}", expired.path(), e.getMessage());
+            }
+        }
+    }
+
+    private void loadSegments(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + JournalSegment.SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    JournalSegment segment = JournalSegment.open(file);
+                    if (segment != null) {
+                        segments.put(segment.startTimestamp(), segment);
+                    }
+                } catch (NumberFormatException | IOException e) {
+                    log.warn("Skipping unreadable journal segment {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        deleteExpired();
+    }
+
+    private void forEachRecord(long from, long to, Consumer<JournalRecord> consumer) {
+        List<JournalSegment> ordered = new ArrayList<>(segments.values());
+        for (int i = 0; i < ordered.size(); i++) {
+            JournalSegment segment = ordered.get(i);
+            long nextStart = i + 1 < ordered.size() ? ordered.get(i + 1).startTimestamp() : Long.MAX_VALUE;
+            // Segments are time ordered, so only the ones overlapping [from, to] are scanned
+            if (nextStart < from || segment.startTimestamp() > to) {
+                continue;
+            }
+            segment.scan(from, to, consumer);
+        }
+    }
+}
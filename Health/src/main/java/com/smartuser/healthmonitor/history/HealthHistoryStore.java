@@ -0,0 +1,120 @@
+package com.smartuser.healthmonitor.history;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.health.Status;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.HealthMonitorProperties.HistoryConfig;
+import com.smartuser.healthmonitor.latency.ProbeLatencyMonitor;
+import com.smartuser.healthmonitor.status.HealthSampleListener;
+
+/**
+ * Per-component health history kept in compressed off-heap chunks.
+ * Steady 5-second samples cost a few bytes each, so days of history for every
+ * component fit in a few MB; memory per component is capped by maxBytesPerComponent.
+ */
+public class HealthHistoryStore implements HealthSampleListener {
+
+    /**
+     * Status codes ordered by severity, so the worst status in a bucket is simply the max code
+     */
+    private static final String[] STATUS_CODES = {
+        Status.UP.getCode(), Status.UNKNOWN.getCode(), "OTHER",
+        ProbeLatencyMonitor.DEGRADED.getCode(), Status.OUT_OF_SERVICE.getCode(), Status.DOWN.getCode()
+    };
+    private static final int OTHER = 2;
+
+    private final HealthMonitorProperties properties;
+    private final Map<String, ComponentHistory> components = new ConcurrentHashMap<>();
+
+    public HealthHistoryStore(HealthMonitorProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void onSample(String component, Status status, long durationNanos, long timestamp) {
+        HistoryConfig config = properties.getHistory();
+        // Stored shifted by one so "no latency" is 0 and XORs against real values stay narrow
+        long latency = durationNanos < 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(durationNanos) + 1;
+        components.computeIfAbsent(component, key -> new ComponentHistory())
+                .append(timestamp, latency, codeOf(status), config.getChunkBytes(), config.getMaxBytesPerComponent(),
+                        timestamp - TimeUnit.HOURS.toMillis(config.getRetentionHours()));
+    }
+
+    /**
+     * Downsample every component (or one, when {@code component} is set) over [from, to]
+     */
+    public Map<String, List<HistoryPoint>> query(String component, long from, long to, long stepMs) {
+        Map<String, List<HistoryPoint>> result = new TreeMap<>();
+        components.forEach((name, history) -> {
+            if (component == null || component.equals(name)) {
+                result.put(name, downsample(history, from, to, stepMs));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Retained samples and off-heap bytes per component
+     */
+    public Map<String, Map<String, Long>> stats() {
+        Map<String, Map<String, Long>> stats = new TreeMap<>();
+        components.forEach((name, history) -> {
+            Map<String, Long> entry = new LinkedHashMap<>();
+            entry.put("retainedSamples", history.retainedSamples());
+            entry.put("totalSamples", history.totalSamples());
+            entry.put("bytes", history.footprintBytes());
+            stats.put(name, entry);
+        });
+        return stats;
+    }
+
+    private static List<HistoryPoint> downsample(ComponentHistory history, long from, long to, long stepMs) {
+        int buckets = (int) ((to - from) / stepMs) + 1;
+        int[] samples = new int[buckets];
+        int[] worst = new int[buckets];
+        int[] latencySamples = new int[buckets];
+        long[] latencySum = new long[buckets];
+        long[] latencyMax = new long[buckets];
+
+        history.forEach(from, to, (timestamp, latency, statusCode) -> {
+            int bucket = (int) ((timestamp - from) / stepMs);
+            samples[bucket]++;
+            worst[bucket] = Math.max(worst[bucket], statusCode);
+            if (latency > 0) {
+                long micros = latency - 1;
+                latencySamples[bucket]++;
+                latencySum[bucket] += micros;
+                latencyMax[bucket] = Math.max(latencyMax[bucket], micros);
+            }
+        });
+
+        List<HistoryPoint> points = new ArrayList<>();
+        for (int i = 0; i < buckets; i++) {
+            if (samples[i] == 0) {
+                continue;
+            }
+            boolean hasLatency = latencySamples[i] > 0;
+            points.add(new HistoryPoint(from + i * stepMs, samples[i], STATUS_CODES[worst[i]],
+                    hasLatency ? latencySum[i] / (latencySamples[i] * 1000.0) : null,
+                    hasLatency ? latencyMax[i] / 1000.0 : null));
+        }
+        return points;
+    }
+
+    private static int codeOf(Status status) {
+        for (int i = 0; i < STATUS_CODES.length; i++) {
+            if (i != OTHER && STATUS_CODES[i].equals(status.getCode())) {
+                return i;
+            }
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,237 @@
+package com.smartuser.healthmonitor.history;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-size off-heap chunk holding one component's samples in three columns:
+ * <ul>
+ * <li>timestamps: delta-of-delta with Gorilla-style variable-width buckets (1 bit for a steady interval)</li>
+ * <li>latencies: XOR against the previous value, reusing the previous leading/trailing-zero window
+ * while it is within a header's worth of bits of the tightest one</li>
+ * <li>statuses: run-length encoded (3-bit code + 16-bit run)</li>
+ * </ul>
+ * Writes and reads are guarded by the owning {@link ComponentHistory}.
+ */
+final class HistoryChunk {
+
+    private static final int STATUS_RUN_BITS = 3 + 16;
+    private static final int MAX_RUN = 0xFFFF;
+    private static final int WORST_TIMESTAMP_BITS = 4 + 64;
+    private static final int WINDOW_HEADER_BITS = 6 + 6;
+    private static final int WORST_LATENCY_BITS = 2 + WINDOW_HEADER_BITS + 64;
+
+    private final int sizeBytes;
+    private final BitColumn timestamps;
+    private final BitColumn latencies;
+    private final BitColumn statuses;
+
+    private int count;
+    private long firstTimestamp;
+    private long lastTimestamp;
+    private long previousDelta;
+    private long previousLatency;
+    private int previousLeading = -1;
+    private int previousTrailing;
+    private int runCode = -1;
+    private int runLength;
+    private boolean sealed;
+
+    HistoryChunk(int sizeBytes) {
+        this.sizeBytes = sizeBytes;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(sizeBytes);
+        int quarter = sizeBytes / 4;
+        // Latencies carry the most entropy, so they get half of the chunk
+        this.timestamps = new BitColumn(buffer.slice(0, quarter));
+        this.latencies = new BitColumn(buffer.slice(quarter, quarter * 2));
+        this.statuses = new BitColumn(buffer.slice(quarter * 3, sizeBytes - quarter * 3));
+    }
+
+    int sizeBytes() {
+        return sizeBytes;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long firstTimestamp() {
+        return firstTimestamp;
+    }
+
+    long lastTimestamp() {
+        return lastTimestamp;
+    }
+
+    /**
+     * @return false when the chunk is full; the caller seals it and starts a new one
+     */
+    boolean append(long timestamp, long latencyMicros, int statusCode) {
+        if (sealed || !timestamps.hasRoom(WORST_TIMESTAMP_BITS) || !latencies.hasRoom(WORST_LATENCY_BITS)
+                || !statuses.hasRoom(STATUS_RUN_BITS * 2)) {
+            return false;
+        }
+        appendTimestamp(timestamp);
+        appendLatency(latencyMicros);
+        appendStatus(statusCode);
+        count++;
+        return true;
+    }
+
+    void seal() {
+        if (!sealed && runLength > 0) {
+            flushRun();
+        }
+        sealed = true;
+    }
+
+    private void appendTimestamp(long timestamp) {
+        if (count == 0) {
+            timestamps.write(timestamp, 64);
+            firstTimestamp = timestamp;
+            lastTimestamp = timestamp;
+            return;
+        }
+        long delta = timestamp - lastTimestamp;
+        long deltaOfDelta = delta - previousDelta;
+        if (deltaOfDelta == 0) {
+            timestamps.writeBit(false);
+        } else if (fits(deltaOfDelta, 7)) {
+            timestamps.write(0b10, 2);
+            timestamps.write(deltaOfDelta, 7);
+        } else if (fits(deltaOfDelta, 9)) {
+            timestamps.write(0b110, 3);
+            timestamps.write(deltaOfDelta, 9);
+        } else if (fits(deltaOfDelta, 12)) {
+            timestamps.write(0b1110, 4);
+            timestamps.write(deltaOfDelta, 12);
+        } else {
+            timestamps.write(0b1111, 4);
+            timestamps.write(deltaOfDelta, 64);
+        }
+        previousDelta = delta;
+        lastTimestamp = timestamp;
+    }
+
+    private void appendLatency(long latencyMicros) {
+        if (count == 0) {
+            latencies.write(latencyMicros, 64);
+            previousLatency = latencyMicros;
+            return;
+        }
+        long xor = latencyMicros ^ previousLatency;
+        previousLatency = latencyMicros;
+        if (xor == 0) {
+            latencies.writeBit(false);
+            return;
+        }
+        latencies.writeBit(true);
+        int leading = Math.min(Long.numberOfLeadingZeros(xor), 63);
+        int trailing = Long.numberOfTrailingZeros(xor);
+        int meaningful = 64 - leading - trailing;
+        if (previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing
+                && 64 - previousLeading - previousTrailing - meaningful < WINDOW_HEADER_BITS) {
+            // Changed bits fall inside the previous window and it is not much wider than needed
+            latencies.writeBit(false);
+            latencies.write(xor >>> previousTrailing, 64 - previousLeading - previousTrailing);
+            return;
+        }
+        latencies.writeBit(true);
+        latencies.write(leading, 6);
+        latencies.write(meaningful - 1, 6);
+        latencies.write(xor >>> trailing, meaningful);
+        previousLeading = leading;
+        previousTrailing = trailing;
+    }
+
+    private void appendStatus(int statusCode) {
+        if (statusCode == runCode && runLength < MAX_RUN) {
+            runLength++;
+            return;
+        }
+        if (runLength > 0) {
+            flushRun();
+        }
+        runCode = statusCode;
+        runLength = 1;
+    }
+
+    private void flushRun() {
+        statuses.write(runCode, 3);
+        statuses.write(runLength, 16);
+        runLength = 0;
+    }
+
+    private static boolean fits(long value, int bits) {
+        long bound = 1L << (bits - 1);
+        return value >= -bound && value < bound;
+    }
+
+    /**
+     * Decode every sample in order
+     */
+    void forEach(SampleVisitor visitor) {
+        BitColumn.Reader timestampReader = timestamps.reader();
+        BitColumn.Reader latencyReader = latencies.reader();
+        BitColumn.Reader statusReader = statuses.reader();
+
+        long timestamp = 0;
+        long delta = 0;
+        long latency = 0;
+        int leading = 0;
+        int trailing = 0;
+        int code = 0;
+        int remainingInRun = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (i == 0) {
+                timestamp = timestampReader.read(64);
+                latency = latencyReader.read(64);
+            } else {
+                delta += readDeltaOfDelta(timestampReader);
+                timestamp += delta;
+                if (latencyReader.readBit()) {
+                    if (latencyReader.readBit()) {
+                        leading = (int) latencyReader.read(6);
+                        int meaningful = (int) latencyReader.read(6) + 1;
+                        trailing = 64 - leading - meaningful;
+                    }
+                    int meaningful = 64 - leading - trailing;
+                    latency ^= latencyReader.read(meaningful) << trailing;
+                }
+            }
+            if (remainingInRun == 0) {
+                if (statusReader.hasMore()) {
+                    code = (int) statusReader.read(3);
+                    remainingInRun = (int) statusReader.read(16);
+                } else {
+                    // Still-open run of the active chunk
+                    code = runCode;
+                    remainingInRun = runLength;
+                }
+            }
+            remainingInRun--;
+            visitor.visit(timestamp, latency, code);
+        }
+    }
+
+    private static long readDeltaOfDelta(BitColumn.Reader reader) {
+        if (!reader.readBit()) {
+            return 0;
+        }
+        if (!reader.readBit()) {
+            return reader.readSigned(7);
+        }
+        if (!reader.readBit()) {
+            return reader.readSigned(9);
+        }
+        if (!reader.readBit()) {
+            return reader.readSigned(12);
+        }
+        return reader.read(64);
+    }
+
+    @FunctionalInterface
+    interface SampleVisitor {
+        void visit(long timestamp, long latencyMicros, int statusCode);
+    }
+}
@@ -0,0 +1,16 @@
+package com.smartuser.healthmonitor.history;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One downsampled bucket of a component's history.
+ * {@code status} is the worst status seen in the bucket; latencies are null when no sample carried one.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record HistoryPoint(
+        long timestamp,
+        int samples,
+        String status,
+        Double avgLatencyMs,
+        Double maxLatencyMs) {
+}
@@ -0,0 +1,27 @@
+package com.smartuser.healthmonitor.history;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One persisted health sample or adopted transition.
+ * Samples carry {@code durationNanos}; transitions carry {@code from} and {@code reason}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JournalRecord(
+        @JsonIgnore boolean transition,
+        long timestamp,
+        String component,
+        String status,
+        @JsonIgnore long durationNanos,
+        String from,
+        String reason) {
+
+    static JournalRecord sample(String component, String status, long durationNanos, long timestamp) {
+        return new JournalRecord(false, timestamp, component, status, durationNanos, null, null);
+    }
+
+    static JournalRecord transition(String component, String from, String to, String reason, long timestamp) {
+        return new JournalRecord(true, timestamp, component, to, -1, from, reason);
+    }
+}
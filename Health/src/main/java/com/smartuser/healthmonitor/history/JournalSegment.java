@@ -0,0 +1,204 @@
+package com.smartuser.healthmonitor.history;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * One memory-mapped journal file, named after the timestamp of its first record.
+ * <pre>
+ * [magic:int][index slots:int]
+ * [index: slots x (timestamp:long, offset:int)]   one slot every INDEX_INTERVAL records
+ * [records: (length:int, type:byte, timestamp:long, duration:long, component, status, from, reason)...]
+ * </pre>
+ * Strings are (length:short, UTF-8 bytes). The file is zero-filled when created, so a zero
+ * length marks the end of the written records and a crashed writer leaves a readable prefix.
+ */
+final class JournalSegment {
+
+    static final String SUFFIX = ".seg";
+
+    private static final int MAGIC = 0x484D4A31;
+    private static final int INDEX_SLOTS = 512;
+    private static final int INDEX_INTERVAL = 64;
+    private static final int SLOT_BYTES = Long.BYTES + Integer.BYTES;
+    private static final int DATA_START = 2 * Integer.BYTES + INDEX_SLOTS * SLOT_BYTES;
+    private static final int MAX_STRING_BYTES = 1024;
+
+    private final Path path;
+    private final long startTimestamp;
+    private final MappedByteBuffer buffer;
+    private int writePosition = DATA_START;
+    private int records;
+
+    private JournalSegment(Path path, long startTimestamp, MappedByteBuffer buffer) {
+        this.path = path;
+        this.startTimestamp = startTimestamp;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment create(Path directory, long startTimestamp, int sizeBytes) throws IOException {
+        Path path = directory.resolve(startTimestamp + SUFFIX);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(Integer.BYTES, INDEX_SLOTS);
+            return new JournalSegment(path, startTimestamp, buffer);
+        }
+    }
+
+    /**
+     * Map an existing segment read-only; returns null when the file is not a journal segment
+     */
+    static JournalSegment open(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        long startTimestamp = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < DATA_START) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return buffer.getInt(0) == MAGIC ? new JournalSegment(path, startTimestamp, buffer) : null;
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long startTimestamp() {
+        return startTimestamp;
+    }
+
+    /**
+     * @return false when the segment is full; the caller rolls to a new one
+     */
+    boolean append(JournalRecord record) {
+        byte[] component = utf8(record.component());
+        byte[] status = utf8(record.status());
+        byte[] from = utf8(record.from());
+        byte[] reason = utf8(record.reason());
+        int length = Integer.BYTES + 1 + 2 * Long.BYTES
+                + 4 * Short.BYTES + component.length + status.length + from.length + reason.length;
+        // Keep room for the zero terminator
+        if (writePosition + length + Integer.BYTES > buffer.capacity()) {
+            return false;
+        }
+        if (records % INDEX_INTERVAL == 0) {
+            int slot = records / INDEX_INTERVAL;
+            if (slot >= INDEX_SLOTS) {
+                return false;
+            }
+            int slotOffset = 2 * Integer.BYTES + slot * SLOT_BYTES;
+            buffer.putLong(slotOffset, record.timestamp());
+            buffer.putInt(slotOffset + Long.BYTES, writePosition);
+        }
+
+        int position = writePosition + Integer.BYTES;
+        buffer.put(position, (byte) (record.transition() ? 2 : 1));
+        position += 1;
+        buffer.putLong(position, record.timestamp());
+        position += Long.BYTES;
+        buffer.putLong(position, record.durationNanos());
+        position += Long.BYTES;
+        position = putString(position, component);
+        position = putString(position, status);
+        position = putString(position, from);
+        putString(position, reason);
+        // Length last, so a reader never sees a half-written record
+        buffer.putInt(writePosition, length);
+        writePosition += length;
+        records++;
+        return true;
+    }
+
+    /**
+     * Write appended records through to the file
+     */
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * Visit records with timestamp in [from, to], starting from the closest index slot
+     */
+    void scan(long from, long to, Consumer<JournalRecord> consumer) {
+        int position = seek(from);
+        while (position + Integer.BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + length > buffer.capacity()) {
+                return;
+            }
+            JournalRecord record;
+            try {
+                record = read(position);
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                // Torn tail left by a crash
+                return;
+            }
+            if (record.timestamp() > to) {
+                return;
+            }
+            if (record.timestamp() >= from) {
+                consumer.accept(record);
+            }
+            position += length;
+        }
+    }
+
+    private int seek(long from) {
+        int position = DATA_START;
+        for (int slot = 0; slot < INDEX_SLOTS; slot++) {
+            int slotOffset = 2 * Integer.BYTES + slot * SLOT_BYTES;
+            long timestamp = buffer.getLong(slotOffset);
+            if (timestamp == 0 || timestamp > from) {
+                break;
+            }
+            position = buffer.getInt(slotOffset + Long.BYTES);
+        }
+        return position;
+    }
+
+    private JournalRecord read(int offset) {
+        int position = offset + Integer.BYTES;
+        boolean transition = buffer.get(position) == 2;
+        position += 1;
+        long timestamp = buffer.getLong(position);
+        position += Long.BYTES;
+        long durationNanos = buffer.getLong(position);
+        position += Long.BYTES;
+        String[] strings = new String[4];
+        for (int i = 0; i < strings.length; i++) {
+            int length = buffer.getShort(position);
+            position += Short.BYTES;
+            if (length > 0) {
+                byte[] bytes = new byte[length];
+                buffer.get(position, bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+                position += length;
+            }
+        }
+        return new JournalRecord(transition, timestamp, strings[0], strings[1], durationNanos, strings[2], strings[3]);
+    }
+
+    private int putString(int position, byte[] bytes) {
+        buffer.putShort(position, (short) bytes.length);
+        buffer.put(position + Short.BYTES, bytes);
+        return position + Short.BYTES + bytes.length;
+    }
+
+    private static byte[] utf8(String value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return bytes.length > MAX_STRING_BYTES ? Arrays.copyOf(bytes, MAX_STRING_BYTES) : bytes;
+    }
+}
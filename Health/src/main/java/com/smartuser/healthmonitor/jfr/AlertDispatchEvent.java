@@ -0,0 +1,77 @@
+package com.smartuser.healthmonitor.jfr;
+
+import java.util.concurrent.TimeUnit;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event describing the delivery of an alert over a single channel
+ */
+@Name("com.smartuser.healthmonitor.AlertDispatch")
+@Label("Alert Dispatch")
+@Category({"Health Monitor", "Alerts"})
+@Description("Queue wait and delivery time of a health monitor alert")
+@StackTrace(false)
+public class AlertDispatchEvent extends Event {
+
+    @Label("Alert Type")
+    public String alertType;
+
+    @Label("Channel")
+    public String channel;
+
+    @Label("Queue Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queueWait;
+
+    @Label("Delivery Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long deliveryTime;
+
+    @Label("Outcome")
+    public String outcome;
+
+    private transient long startNanos;
+
+    /**
+     * Create and begin a dispatch event for a delivery attempt starting now
+     */
+    public static AlertDispatchEvent start() {
+        AlertDispatchEvent event = new AlertDispatchEvent();
+        event.startNanos = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * End the event and commit it if a recording wants it and delivery
+     * took at least the configured threshold
+     *
+     * @param enqueuedNanos {@link System#nanoTime()} at which the alert was raised
+     */
+    public void complete(String alertType, String channel, long enqueuedNanos, String outcome,
+                         HealthMonitorProperties.JfrConfig config) {
+        end();
+        if (!config.isEnabled() || !shouldCommit()) {
+            return;
+        }
+        long delivery = System.nanoTime() - startNanos;
+        if (delivery < TimeUnit.MILLISECONDS.toNanos(config.getAlertThresholdMs())) {
+            return;
+        }
+        this.alertType = alertType;
+        this.channel = channel;
+        this.queueWait = Math.max(0, startNanos - enqueuedNanos);
+        this.deliveryTime = delivery;
+        this.outcome = outcome;
+        commit();
+    }
+}
@@ -0,0 +1,47 @@
+package com.smartuser.healthmonitor.jfr;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted when the global exception handler processes an exception
+ */
+@Name("com.smartuser.healthmonitor.HandledException")
+@Label("Handled Exception")
+@Category({"Health Monitor", "Exceptions"})
+@Description("Exception processed by the health monitor exception handler")
+@StackTrace(false)
+public class HandledExceptionEvent extends Event {
+
+    @Label("Exception Type")
+    public String exceptionType;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Ignored")
+    @Description("True when the exception was treated as a static resource miss and not alerted")
+    public boolean ignored;
+
+    /**
+     * Commit an instant event if a recording wants it
+     */
+    public static void emit(Throwable ex, String path, boolean ignored, HealthMonitorProperties.JfrConfig config) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        HandledExceptionEvent event = new HandledExceptionEvent();
+        if (event.shouldCommit()) {
+            event.exceptionType = ex.getClass().getName();
+            event.path = path;
+            event.ignored = ignored;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.smartuser.healthmonitor.jfr;
+
+import java.util.concurrent.TimeUnit;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event describing a single health indicator evaluation.
+ * Fields are only populated when a recording has the event enabled, so
+ * the cost outside of a recording is a nanoTime call and an allocation the
+ * JIT can eliminate.
+ */
+@Name("com.smartuser.healthmonitor.HealthProbe")
+@Label("Health Probe")
+@Category({"Health Monitor", "Probes"})
+@Description("Duration breakdown of a health indicator evaluation")
+@StackTrace(false)
+public class HealthProbeEvent extends Event {
+
+    @Label("Indicator")
+    public String indicator;
+
+    @Label("Status")
+    public String status;
+
+    @Label("Connect Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long connectDuration;
+
+    @Label("Query Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queryDuration;
+
+    @Label("Total Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long totalDuration;
+
+    private transient long startNanos;
+
+    /**
+     * Create and begin a probe event
+     */
+    public static HealthProbeEvent start() {
+        HealthProbeEvent event = new HealthProbeEvent();
+        event.startNanos = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * End the event and commit it if a recording wants it and the probe
+     * took at least the configured threshold
+     */
+    public void complete(String indicator, String status, long connectNanos, long queryNanos,
+                         HealthMonitorProperties.JfrConfig config) {
+        end();
+        if (!config.isEnabled() || !shouldCommit()) {
+            return;
+        }
+        long total = System.nanoTime() - startNanos;
+        if (total < TimeUnit.MILLISECONDS.toNanos(config.getProbeThresholdMs())) {
+            return;
+        }
+        this.indicator = indicator;
+        this.status = status;
+        this.connectDuration = connectNanos;
+        this.queryDuration = queryNanos;
+        this.totalDuration = total;
+        commit();
+    }
+}
@@ -0,0 +1,100 @@
+package com.smartuser.healthmonitor.latency;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size log-linear latency histogram (microseconds).
+ * Each power of two is split into 8 linear sub-buckets, so recorded values keep
+ * ~12.5% relative precision from 1µs up to ~12 days in 312 counters.
+ * Recording is O(1) and allocation-free; quantiles walk the bucket array once.
+ * Not thread-safe, callers synchronize.
+ */
+final class LatencySketch {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+
+    void record(long micros) {
+        counts[indexOf(micros)]++;
+        total++;
+    }
+
+    long count() {
+        return total;
+    }
+
+    void reset() {
+        Arrays.fill(counts, 0);
+        total = 0;
+    }
+
+    long quantile(double q) {
+        return quantile(q, this, null);
+    }
+
+    /**
+     * Quantile over the union of two sketches without materializing a merged copy
+     */
+    static long quantile(double q, LatencySketch a, LatencySketch b) {
+        long total = a.total + (b != null ? b.total : 0);
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += a.counts[i] + (b != null ? b.counts[i] : 0);
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(BUCKETS - 1);
+    }
+
+    /**
+     * Values recorded in buckets below the given index
+     */
+    long countBelow(int index) {
+        long below = 0;
+        for (int i = 0; i < index; i++) {
+            below += counts[i];
+        }
+        return below;
+    }
+
+    /**
+     * First bucket whose upper bound exceeds the value, {@link #BUCKETS} if none
+     */
+    static int firstIndexAbove(double value) {
+        for (int i = 0; i < BUCKETS; i++) {
+            if (upperBoundOf(i) > value) {
+                return i;
+            }
+        }
+        return BUCKETS;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int mantissa = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        int index = (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + mantissa;
+        return Math.min(index, BUCKETS - 1);
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int mantissa = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + mantissa + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,75 @@
+package com.smartuser.healthmonitor.latency;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties.LatencyConfig;
+
+/**
+ * Latency state for one component: a two-window recent sketch and a learned p95 baseline.
+ * When the current window fills up, its p95 is folded into the baseline (EWMA) unless the
+ * component was degraded during that window, so a slow period never becomes the new normal.
+ * <p>
+ * Recording doesn't walk the sketches for the recent p95: it counts samples in buckets at or
+ * below the degraded threshold, and the p95 is above the threshold exactly when fewer than 95%
+ * of the samples are. Those counts are rebuilt only when the threshold moves, i.e. once per
+ * window at most; the p95 itself is computed only for a degraded result.
+ */
+final class LatencyTracker {
+
+    private LatencySketch current = new LatencySketch();
+    private LatencySketch previous = new LatencySketch();
+    private double baselineP95Micros;
+    private int learnedWindows;
+    private boolean degradedInWindow;
+    private double threshold = Double.NaN;
+    private int slowIndex;
+    private long fastCurrent;
+    private long fastPrevious;
+
+    synchronized Snapshot record(long micros, LatencyConfig config) {
+        // a p95 of at least minimumLatencyMs and above baseline * degradedFactor is degraded
+        double slowAbove = Math.max(config.getMinimumLatencyMs() * 1000L - 1, baselineP95Micros * config.getDegradedFactor());
+        if (slowAbove != threshold) {
+            threshold = slowAbove;
+            slowIndex = LatencySketch.firstIndexAbove(slowAbove);
+            fastCurrent = current.countBelow(slowIndex);
+            fastPrevious = previous.countBelow(slowIndex);
+        }
+        current.record(micros);
+        if (LatencySketch.indexOf(micros) < slowIndex) {
+            fastCurrent++;
+        }
+        long total = current.count() + previous.count();
+        long rank = Math.max(1, (long) Math.ceil(0.95 * total));
+        boolean learned = learnedWindows >= config.getWarmupWindows();
+        boolean degraded = learned && fastCurrent + fastPrevious < rank;
+        degradedInWindow |= degraded;
+        long recentP95 = degraded ? LatencySketch.quantile(0.95, current, previous) : 0;
+
+        if (current.count() >= config.getWindowSize()) {
+            rotate(config);
+        }
+        return new Snapshot(recentP95, (long) baselineP95Micros, learned, degraded);
+    }
+
+    private void rotate(LatencyConfig config) {
+        if (!degradedInWindow) {
+            long windowP95 = current.quantile(0.95);
+            baselineP95Micros = learnedWindows == 0
+                    ? windowP95
+                    : config.getBaselineSmoothing() * windowP95 + (1 - config.getBaselineSmoothing()) * baselineP95Micros;
+            learnedWindows++;
+        }
+        degradedInWindow = false;
+        LatencySketch recycled = previous;
+        previous = current;
+        current = recycled;
+        current.reset();
+        fastPrevious = fastCurrent;
+        fastCurrent = 0;
+    }
+
+    /**
+     * @param recentP95Micros p95 of the two windows, only computed when degraded (0 otherwise)
+     */
+    record Snapshot(long recentP95Micros, long baselineP95Micros, boolean baselineLearned, boolean degraded) {
+    }
+}
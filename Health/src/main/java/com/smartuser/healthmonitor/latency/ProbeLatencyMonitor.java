@@ -0,0 +1,58 @@
+package com.smartuser.healthmonitor.latency;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.HealthMonitorProperties.LatencyConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Feeds probe latencies into a per-component sketch and turns a slow-but-UP result into
+ * {@link #DEGRADED} when the recent p95 exceeds the learned baseline by the configured factor.
+ * Only UP results are sampled, so timeouts and errors never inflate the baseline.
+ */
+@Slf4j
+public class ProbeLatencyMonitor {
+
+    /**
+     * Reachable but well slower than usual. Add it to management.endpoint.health.status.order
+     * (between OUT_OF_SERVICE and UP) so it takes part in the aggregate status.
+     */
+    public static final Status DEGRADED = new Status("DEGRADED", "Probe latency is well above its learned baseline");
+
+    private final HealthMonitorProperties properties;
+    private final Map<String, LatencyTracker> trackers = new ConcurrentHashMap<>();
+
+    public ProbeLatencyMonitor(HealthMonitorProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Record a probe and return the health to report for it
+     */
+    public Health apply(String component, Health health, long durationNanos) {
+        LatencyConfig config = properties.getLatency();
+        if (!config.isEnabled() || !Status.UP.equals(health.getStatus())) {
+            return health;
+        }
+        LatencyTracker.Snapshot snapshot = trackers.computeIfAbsent(component, key -> new LatencyTracker())
+                .record(TimeUnit.NANOSECONDS.toMicros(durationNanos), config);
+        if (!snapshot.degraded()) {
+            return health;
+        }
+        log.warn("{} is DEGRADED: recent p95 {}ms vs baseline {}ms", component,
+                snapshot.recentP95Micros() / 1000, snapshot.baselineP95Micros() / 1000);
+        // Latency details are only attached while degraded, so steady UP responses stay byte-identical
+        return Health.status(DEGRADED)
+                .withDetails(health.getDetails())
+                .withDetail("latencyP95", snapshot.recentP95Micros() / 1000 + "ms")
+                .withDetail("baselineP95", snapshot.baselineP95Micros() / 1000 + "ms")
+                .build();
+    }
+}
@@ -1,18 +1,30 @@
 package com.smartuser.healthmonitor.metrics;
 
+import java.util.Locale;
 import java.util.Optional;
+import java.util.function.ToDoubleFunction;
 
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 
+import com.smartuser.healthmonitor.execution.MonitorExecutor;
+import com.smartuser.healthmonitor.execution.PinningMonitor;
 import com.smartuser.healthmonitor.health.CompositeHealthIndicatorRegistrar;
 import com.smartuser.healthmonitor.health.DatabaseHealthIndicator;
 import com.smartuser.healthmonitor.health.ExternalApiHealthIndicator;
 import com.smartuser.healthmonitor.health.LogHealthIndicator;
+import com.smartuser.healthmonitor.health.ReactiveDatabaseHealthIndicator;
+import com.smartuser.healthmonitor.health.ReactiveExternalApiHealthIndicator;
+import com.smartuser.healthmonitor.latency.ProbeLatencyMonitor;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+import com.smartuser.healthmonitor.overhead.Subsystem;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
@@ -21,10 +33,12 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Exposes health metrics to Prometheus
  * Follows Spring Boot 3.5 auto-configuration patterns
+ * In WebFlux hosts the db/external gauges read the blocking delegate of the reactive indicators
  */
 @Slf4j
-@AutoConfiguration(after = CompositeHealthIndicatorRegistrar.class)
+@AutoConfiguration(after = { CompositeHealthIndicatorRegistrar.class, CompositeMeterRegistryAutoConfiguration.class })
 @ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
 @ConditionalOnProperty(prefix = "health.monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class HealthMetrics {
 
@@ -32,52 +46,129 @@ public class HealthMetrics {
     private final Optional<DatabaseHealthIndicator> databaseIndicator;
     private final Optional<ExternalApiHealthIndicator> externalApiIndicator;
     private final Optional<LogHealthIndicator> logHealthIndicator;
+    private final Optional<MonitoringOverhead> monitoringOverhead;
+    private final Optional<MonitorExecutor> monitorExecutor;
+    private final Optional<PinningMonitor> pinningMonitor;
 
     public HealthMetrics(
             MeterRegistry meterRegistry,
             Optional<DatabaseHealthIndicator> databaseIndicator,
             Optional<ExternalApiHealthIndicator> externalApiIndicator,
-            Optional<LogHealthIndicator> logHealthIndicator) {
+            Optional<ReactiveDatabaseHealthIndicator> reactiveDatabaseIndicator,
+            Optional<ReactiveExternalApiHealthIndicator> reactiveExternalApiIndicator,
+            Optional<LogHealthIndicator> logHealthIndicator,
+            Optional<MonitoringOverhead> monitoringOverhead,
+            Optional<MonitorExecutor> monitorExecutor,
+            Optional<PinningMonitor> pinningMonitor) {
         this.meterRegistry = meterRegistry;
-        this.databaseIndicator = databaseIndicator;
-        this.externalApiIndicator = externalApiIndicator;
+        this.databaseIndicator = databaseIndicator
+                .or(() -> reactiveDatabaseIndicator.map(ReactiveDatabaseHealthIndicator::getDelegate));
+        this.externalApiIndicator = externalApiIndicator
+                .or(() -> reactiveExternalApiIndicator.map(ReactiveExternalApiHealthIndicator::getDelegate));
         this.logHealthIndicator = logHealthIndicator;
+        this.monitoringOverhead = monitoringOverhead;
+        this.monitorExecutor = monitorExecutor;
+        this.pinningMonitor = pinningMonitor;
     }
 
     @PostConstruct
     public void registerMetrics() {
         // Database metric
         databaseIndicator.ifPresent(indicator -> 
-            Gauge.builder("health.monitor.database.status", indicator, ind -> {
+            Gauge.builder("health.monitor.database.status", indicator, scraped(ind -> {
                 Health health = ind.health();
-                return health.getStatus() == Status.UP ? 1.0 : 0.0;
-            })
+                return isReachable(health.getStatus()) ? 1.0 : 0.0;
+            }))
             .description("Database health status (1=UP, 0=DOWN)")
             .register(meterRegistry)
         );
 
         // External API metric
         externalApiIndicator.ifPresent(indicator ->
-            Gauge.builder("health.monitor.external.status", indicator, ind -> {
+            Gauge.builder("health.monitor.external.status", indicator, scraped(ind -> {
                 Health health = ind.health();
-                return health.getStatus() == Status.UP ? 1.0 : 0.0;
-            })
+                return isReachable(health.getStatus()) ? 1.0 : 0.0;
+            }))
             .description("External API health status (1=UP, 0=DOWN)")
             .register(meterRegistry)
         );
 
         // Log errors metric
         logHealthIndicator.ifPresent(indicator ->
-            Gauge.builder("health.monitor.logs.errors", indicator, ind -> {
+            Gauge.builder("health.monitor.logs.errors", indicator, scraped(ind -> {
                 Health health = ind.health();
                 Object recentErrorsCount = health.getDetails().get("recentErrorsCount");
                 return recentErrorsCount != null ? ((Number) recentErrorsCount).doubleValue() : 0.0;
-            })
+            }))
             .description("Number of recent error logs")
             .register(meterRegistry)
         );
 
+        // Starter's own cost per subsystem and the resulting probe stretch
+        monitoringOverhead.ifPresent(overhead -> {
+            for (Subsystem subsystem : Subsystem.values()) {
+                String tag = subsystem.name().toLowerCase(Locale.ENGLISH);
+                FunctionCounter.builder("health.monitor.overhead.cpu", overhead, o -> o.getCpuNanos(subsystem) / 1e9)
+                        .baseUnit("seconds")
+                        .tag("subsystem", tag)
+                        .description("CPU time spent by the health monitor itself")
+                        .register(meterRegistry);
+                FunctionCounter.builder("health.monitor.overhead.allocated", overhead, o -> o.getAllocatedBytes(subsystem))
+                        .baseUnit("bytes")
+                        .tag("subsystem", tag)
+                        .description("Bytes allocated by the health monitor itself")
+                        .register(meterRegistry);
+            }
+            Gauge.builder("health.monitor.overhead.cpu.percent", overhead, MonitoringOverhead::getLastCpuPercent)
+                    .description("Share of available CPU used by the health monitor in the last evaluation interval")
+                    .register(meterRegistry);
+            Gauge.builder("health.monitor.overhead.stretch", overhead, MonitoringOverhead::getStretch)
+                    .description("Probe interval multiplier applied while over the overhead budget (1=within budget)")
+                    .register(meterRegistry);
+        });
+
+        // Virtual-thread mode: permits in use, saturation and carrier pinning
+        monitorExecutor.filter(MonitorExecutor::isVirtualThreads).ifPresent(executor -> {
+            for (Subsystem subsystem : new Subsystem[] { Subsystem.PROBE, Subsystem.NOTIFIER }) {
+                String tag = subsystem.name().toLowerCase(Locale.ENGLISH);
+                Gauge.builder("health.monitor.execution.active", executor, e -> e.getActive(subsystem))
+                        .tag("subsystem", tag)
+                        .description("Health monitor tasks running on virtual threads")
+                        .register(meterRegistry);
+                FunctionCounter.builder("health.monitor.execution.saturated", executor, e -> e.getSaturatedCount(subsystem))
+                        .tag("subsystem", tag)
+                        .description("Tasks that found the subsystem at its concurrency limit")
+                        .register(meterRegistry);
+            }
+        });
+        pinningMonitor.ifPresent(monitor ->
+            FunctionCounter.builder("health.monitor.execution.pinned", monitor, PinningMonitor::getPinnedCount)
+                    .description("Virtual threads pinned to their carrier longer than the pinning threshold")
+                    .register(meterRegistry)
+        );
+
         log.info("Health metrics registered with Prometheus");
     }
+
+    /**
+     * Charge gauge evaluation (including the probe it triggers) to the SCRAPE subsystem
+     */
+    private <T> ToDoubleFunction<T> scraped(ToDoubleFunction<T> gauge) {
+        return target -> {
+            if (monitoringOverhead.isEmpty()) {
+                return gauge.applyAsDouble(target);
+            }
+            try (MonitoringOverhead.Measurement measurement = monitoringOverhead.get().start(Subsystem.SCRAPE)) {
+                return gauge.applyAsDouble(target);
+            }
+        };
+    }
+
+    /**
+     * DEGRADED is slow but working, so it still counts as up for the status gauges
+     */
+    private static boolean isReachable(Status status) {
+        return Status.UP.equals(status) || ProbeLatencyMonitor.DEGRADED.equals(status);
+    }
 }
 
@@ -0,0 +1,28 @@
+package com.smartuser.healthmonitor.notifier;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * JSON body posted to the alert webhook
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AlertPayload(
+    String alertType,
+    String message,
+    long timestamp,
+    String application,
+    String exception,
+    String exceptionMessage
+) {
+
+    public static AlertPayload of(String alertType, String message, Throwable throwable) {
+        return new AlertPayload(
+            alertType,
+            message,
+            System.currentTimeMillis(),
+            "health-monitor",
+            throwable != null ? throwable.getClass().getName() : null,
+            throwable != null ? throwable.getMessage() : null
+        );
+    }
+}
@@ -1,20 +1,22 @@
 package com.smartuser.healthmonitor.notifier;
 
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.event.ApplicationFailedEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.lang.NonNull;
-import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.execution.MonitorExecutor;
 import com.smartuser.healthmonitor.health.LogHealthIndicator;
+import com.smartuser.healthmonitor.jfr.AlertDispatchEvent;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+import com.smartuser.healthmonitor.overhead.Subsystem;
 
 import lombok.extern.slf4j.Slf4j;
 import reactor.util.retry.Retry;
@@ -23,18 +25,23 @@ import reactor.util.retry.Retry;
  * Notifies about health status changes and exceptions
  */
 @Slf4j
-@Component
 public class HealthStatusNotifier {
 
     private final HealthMonitorProperties properties;
     private final ObjectProvider<LogHealthIndicator> logHealthIndicatorProvider;
-    private final WebClient webClient;
+    private final MonitoringOverhead overhead;
+    private final MonitorExecutor executor;
+    private final SingletonSupplier<WebClient> webClient;
 
     public HealthStatusNotifier(HealthMonitorProperties properties, 
-                               ObjectProvider<LogHealthIndicator> logHealthIndicatorProvider) {
+                               ObjectProvider<LogHealthIndicator> logHealthIndicatorProvider,
+                               MonitoringOverhead overhead, MonitorExecutor executor) {
         this.properties = properties;
         this.logHealthIndicatorProvider = logHealthIndicatorProvider;
-        this.webClient = WebClient.builder().build();
+        this.overhead = overhead;
+        this.executor = executor;
+        // Only needed once a webhook alert is actually sent
+        this.webClient = SingletonSupplier.of(() -> WebClient.builder().build());
     }
 
     /**
@@ -75,44 +82,49 @@ public class HealthStatusNotifier {
         logHealthIndicatorProvider.ifAvailable(indicator -> indicator.recordError(message, throwable));
     }
 
+    /**
+     * Delivery is blocking; in virtual-thread mode it leaves the caller's (request) thread
+     */
     private void sendAlert(String alertType, String message, Throwable throwable) {
         if (!properties.isEnabled()) {
             return;
         }
-
-        Map<String, Object> alertPayload = new HashMap<>();
-        alertPayload.put("alertType", alertType);
-        alertPayload.put("message", message);
-        alertPayload.put("timestamp", System.currentTimeMillis());
-        alertPayload.put("application", "health-monitor");
-        
-        if (throwable != null) {
-            alertPayload.put("exception", throwable.getClass().getName());
-            alertPayload.put("exceptionMessage", throwable.getMessage());
+        // taken before the hand-off, so queue wait includes permit and virtual-thread scheduling
+        long raisedAt = System.nanoTime();
+        try (MonitoringOverhead.Measurement measurement = overhead.start(Subsystem.NOTIFIER)) {
+            executor.execute(Subsystem.NOTIFIER, () -> dispatch(alertType, message, throwable, raisedAt));
         }
+    }
+
+    private void dispatch(String alertType, String message, Throwable throwable, long raisedAt) {
+        AlertPayload alertPayload = AlertPayload.of(alertType, message, throwable);
 
         // Send webhook if enabled
         if (properties.getLogs().getWebhook().isEnabled()) {
-            sendWebhookAlert(alertPayload);
+            AlertDispatchEvent dispatchEvent = AlertDispatchEvent.start();
+            boolean delivered = sendWebhookAlert(alertPayload);
+            dispatchEvent.complete(alertType, "webhook", raisedAt, delivered ? "DELIVERED" : "FAILED",
+                    properties.getJfr());
         }
 
         // Send email if enabled (in a real implementation, use JavaMailSender)
         if (properties.getLogs().getEmail().isEnabled()) {
+            AlertDispatchEvent dispatchEvent = AlertDispatchEvent.start();
             sendEmailAlert(alertPayload);
+            dispatchEvent.complete(alertType, "email", raisedAt, "DELIVERED", properties.getJfr());
         }
     }
 
-    private void sendWebhookAlert(@NonNull Map<String, Object> payload) {
+    private boolean sendWebhookAlert(@NonNull AlertPayload payload) {
         try {
             final String webhookUrl = Objects.requireNonNull(
                     properties.getLogs().getWebhook().getUrl(),
                     "health.monitor.logs.webhook.url must not be null");
             long timeout = properties.getLogs().getWebhook().getTimeout();
-            final Map<String, Object> requestPayload = new HashMap<>(payload);
 
-            webClient.post()
+            webClient.obtain().post()
                     .uri(webhookUrl)
-                    .body(BodyInserters.fromValue(requestPayload))
+                    .body(BodyInserters.fromValue(payload))
                     .retrieve()
                     .toBodilessEntity()
                     .timeout(Duration.ofMillis(timeout))
@@ -120,17 +132,19 @@ public class HealthStatusNotifier {
                     .block();
 
             log.debug("Webhook alert sent successfully");
+            return true;
         } catch (Exception e) {
             log.warn("Failed to send webhook alert: {}", e.getMessage());
+            return false;
         }
     }
 
-    private void sendEmailAlert(Map<String, Object> payload) {
+    private void sendEmailAlert(AlertPayload payload) {
         // In a real implementation, use JavaMailSender or similar
         // For now, just log it
         log.info("Email alert would be sent to {}: {}", 
                 properties.getLogs().getEmail().getTo(), 
-                payload.get("message"));
+                payload.message());
     }
 }
 
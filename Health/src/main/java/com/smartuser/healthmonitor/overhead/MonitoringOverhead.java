@@ -0,0 +1,182 @@
+package com.smartuser.healthmonitor.overhead;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.actuate.health.Health;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.HealthMonitorProperties.OverheadConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Accounts the starter's own CPU time and allocated bytes per {@link Subsystem}, using the
+ * current thread's counters from {@link ThreadMXBean}, and enforces a CPU budget.
+ * <p>
+ * Every evaluation interval the consumed CPU is compared with the budget (a percentage of
+ * wall time x available processors). Over budget the stretch factor doubles, up to
+ * maxStretch; below half the budget it halves again. While stretched, probes run less often
+ * and collect fewer details.
+ * <p>
+ * Measurements nest: only the outermost one on a thread is counted, so a probe run by a
+ * scrape is charged to SCRAPE once, not twice. Virtual threads report no per-thread CPU time,
+ * so work handed to them by MonitorExecutor is only charged for its caller's share.
+ */
+@Slf4j
+public class MonitoringOverhead {
+
+    private static final Measurement NOOP = new Measurement(null, null, 0, 0);
+
+    private final HealthMonitorProperties properties;
+    private final ThreadMXBean threadMXBean;
+    private final com.sun.management.ThreadMXBean allocationMXBean;
+    private final boolean supported;
+    private final Map<Subsystem, LongAdder> cpuNanos = new EnumMap<>(Subsystem.class);
+    private final Map<Subsystem, LongAdder> allocatedBytes = new EnumMap<>(Subsystem.class);
+    private final ThreadLocal<Measurement> active = new ThreadLocal<>();
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final LongAdder windowCpuNanos = new LongAdder();
+    private volatile int stretch = 1;
+    private volatile double lastCpuPercent;
+
+    public MonitoringOverhead(HealthMonitorProperties properties) {
+        this.properties = properties;
+        this.threadMXBean = ManagementFactory.getThreadMXBean();
+        this.allocationMXBean = threadMXBean instanceof com.sun.management.ThreadMXBean sun ? sun : null;
+        boolean cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported();
+        if (cpuTimeSupported && properties.getOverhead().isEnabled() && !threadMXBean.isThreadCpuTimeEnabled()) {
+            // JVM-wide switch, so only flipped when overhead accounting is on
+            threadMXBean.setThreadCpuTimeEnabled(true);
+        }
+        this.supported = cpuTimeSupported && threadMXBean.isThreadCpuTimeEnabled();
+        for (Subsystem subsystem : Subsystem.values()) {
+            cpuNanos.put(subsystem, new LongAdder());
+            allocatedBytes.put(subsystem, new LongAdder());
+        }
+    }
+
+    /**
+     * Begin measuring work on the current thread; always close the result
+     */
+    public Measurement start(Subsystem subsystem) {
+        if (!supported || !properties.getOverhead().isEnabled() || active.get() != null) {
+            return NOOP;
+        }
+        Measurement measurement = new Measurement(this, subsystem,
+                threadMXBean.getCurrentThreadCpuTime(), currentThreadAllocatedBytes());
+        active.set(measurement);
+        return measurement;
+    }
+
+    private void finish(Measurement measurement) {
+        active.remove();
+        long cpu = Math.max(0, threadMXBean.getCurrentThreadCpuTime() - measurement.cpuStart);
+        long allocated = Math.max(0, currentThreadAllocatedBytes() - measurement.allocatedStart);
+        cpuNanos.get(measurement.subsystem).add(cpu);
+        allocatedBytes.get(measurement.subsystem).add(allocated);
+        windowCpuNanos.add(cpu);
+        evaluateBudget();
+    }
+
+    private long currentThreadAllocatedBytes() {
+        return allocationMXBean != null ? allocationMXBean.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * Re-evaluate the stretch factor at most once per evaluation interval (by whichever thread gets there first)
+     */
+    private void evaluateBudget() {
+        OverheadConfig config = properties.getOverhead();
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        long elapsed = now - start;
+        if (elapsed < config.getEvaluationIntervalMs() * 1_000_000L || !windowStart.compareAndSet(start, now)) {
+            return;
+        }
+        long consumed = windowCpuNanos.sumThenReset();
+        double capacity = (double) elapsed * Runtime.getRuntime().availableProcessors();
+        double cpuPercent = consumed * 100.0 / capacity;
+        lastCpuPercent = cpuPercent;
+
+        int previous = stretch;
+        if (cpuPercent > config.getCpuBudgetPercent()) {
+            stretch = Math.min(previous * 2, Math.max(1, config.getMaxStretch()));
+        } else if (cpuPercent < config.getCpuBudgetPercent() / 2) {
+            stretch = Math.max(previous / 2, 1);
+        }
+        if (stretch != previous) {
+            log.warn("Health monitor overhead {}% of CPU (budget {}%): probe interval stretch x{} -> x{}",
+                    String.format("%.3f", cpuPercent), config.getCpuBudgetPercent(), previous, stretch);
+        }
+    }
+
+    /**
+     * 1 when within budget, otherwise the factor probe intervals are multiplied by
+     */
+    public int getStretch() {
+        return stretch;
+    }
+
+    public boolean isThrottled() {
+        return stretch > 1;
+    }
+
+    /**
+     * Share of available CPU used by the starter during the last evaluation interval, in percent
+     */
+    public double getLastCpuPercent() {
+        return lastCpuPercent;
+    }
+
+    public long getCpuNanos(Subsystem subsystem) {
+        return cpuNanos.get(subsystem).sum();
+    }
+
+    public long getAllocatedBytes(Subsystem subsystem) {
+        return allocatedBytes.get(subsystem).sum();
+    }
+
+    /**
+     * Add the throttle detail while stretched; healthy unthrottled results are returned unchanged
+     */
+    public Health annotate(Health health) {
+        if (!isThrottled()) {
+            return health;
+        }
+        return Health.status(health.getStatus())
+                .withDetails(health.getDetails())
+                .withDetail("monitoringThrottle", "x" + stretch + " (overhead " + String.format("%.3f", lastCpuPercent) + "% CPU)")
+                .build();
+    }
+
+    /**
+     * One in-flight measurement, closed with try-with-resources
+     */
+    public static final class Measurement implements AutoCloseable {
+
+        private final MonitoringOverhead owner;
+        private final Subsystem subsystem;
+        private final long cpuStart;
+        private final long allocatedStart;
+
+        private Measurement(MonitoringOverhead owner, Subsystem subsystem, long cpuStart, long allocatedStart) {
+            this.owner = owner;
+            this.subsystem = subsystem;
+            this.cpuStart = cpuStart;
+            this.allocatedStart = allocatedStart;
+        }
+
+        @Override
+        public void close() {
+            if (owner != null) {
+                owner.finish(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.smartuser.healthmonitor.overhead;
+
+import org.springframework.boot.actuate.health.Health;
+
+/**
+ * Last result of one indicator, reused while the monitor is over its overhead budget.
+ * Within budget it is never consulted, so results are always fresh.
+ */
+public final class ProbeResultCache {
+
+    private final MonitoringOverhead overhead;
+    private final long baseIntervalMs;
+    private volatile Health last;
+    private volatile long lastAt;
+
+    public ProbeResultCache(MonitoringOverhead overhead, long baseIntervalMs) {
+        this.overhead = overhead;
+        this.baseIntervalMs = baseIntervalMs;
+    }
+
+    /**
+     * @return the previous result if throttled and it is younger than baseInterval x stretch, otherwise null
+     */
+    public Health reusable() {
+        Health cached = last;
+        if (cached == null || !overhead.isThrottled()) {
+            return null;
+        }
+        long age = System.currentTimeMillis() - lastAt;
+        return age < baseIntervalMs * overhead.getStretch() ? cached : null;
+    }
+
+    public Health remember(Health health) {
+        last = health;
+        lastAt = System.currentTimeMillis();
+        return health;
+    }
+}
@@ -0,0 +1,17 @@
+package com.smartuser.healthmonitor.overhead;
+
+/**
+ * Parts of the starter whose own CPU time and allocations are accounted separately
+ */
+public enum Subsystem {
+    /** Indicator evaluations driven by actuator polls and the probe refresher */
+    PROBE,
+    /** Metric gauges evaluated during a Prometheus scrape */
+    SCRAPE,
+    /** Alert payload building and delivery */
+    NOTIFIER,
+    /** Global exception handler */
+    EXCEPTIONS,
+    /** History journal writer */
+    HISTORY
+}
@@ -0,0 +1,148 @@
+package com.smartuser.healthmonitor.probe;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.context.SmartLifecycle;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.health.CriticalityAware;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically evaluates the indicators marked critical on a single background
+ * thread and publishes the result to {@link ProbeStateHolder}. Probe requests
+ * never evaluate indicators themselves.
+ */
+@Slf4j
+public class CriticalIndicatorRefresher implements SmartLifecycle {
+
+    private final ListableBeanFactory beanFactory;
+    private final ProbeStateHolder stateHolder;
+    private final HealthMonitorProperties properties;
+    private final MonitoringOverhead overhead;
+
+    private volatile ScheduledExecutorService executor;
+    private Map<String, Object> criticalIndicators = Map.of();
+
+    public CriticalIndicatorRefresher(ListableBeanFactory beanFactory, ProbeStateHolder stateHolder,
+                                      HealthMonitorProperties properties, MonitoringOverhead overhead) {
+        this.beanFactory = beanFactory;
+        this.stateHolder = stateHolder;
+        this.properties = properties;
+        this.overhead = overhead;
+    }
+
+    @Override
+    public void start() {
+        criticalIndicators = findCriticalIndicators();
+        log.info("Readiness probe tracks critical components {}", criticalIndicators.keySet());
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "health-probe-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::refreshAndReschedule);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = executor;
+        executor = null;
+        if (current != null) {
+            current.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    /**
+     * Evaluate every critical indicator once and publish the DOWN set
+     */
+    public void refresh() {
+        List<String> down = new ArrayList<>();
+        criticalIndicators.forEach((component, indicator) -> {
+            Status status = evaluate(component, indicator);
+            if (Status.DOWN.equals(status) || Status.OUT_OF_SERVICE.equals(status)) {
+                down.add(component);
+            }
+        });
+        stateHolder.updateCritical(down);
+    }
+
+    private void refreshAndReschedule() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("Critical indicator refresh failed: {}", e.getMessage());
+        }
+        ScheduledExecutorService current = executor;
+        if (current != null && !current.isShutdown()) {
+            current.schedule(this::refreshAndReschedule, nextDelayMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stretched while the monitor is over its overhead budget
+     */
+    protected long nextDelayMs() {
+        return properties.getProbes().getRefreshIntervalMs() * overhead.getStretch();
+    }
+
+    private Status evaluate(String component, Object indicator) {
+        try {
+            Health health;
+            if (indicator instanceof HealthIndicator blocking) {
+                health = blocking.health();
+            } else {
+                health = ((ReactiveHealthIndicator) indicator).health()
+                        .block(Duration.ofMillis(properties.getProbes().getRefreshIntervalMs()));
+            }
+            return health != null ? health.getStatus() : Status.UNKNOWN;
+        } catch (Exception e) {
+            log.warn("Critical indicator {} failed: {}", component, e.getMessage());
+            return Status.DOWN;
+        }
+    }
+
+    private Map<String, Object> findCriticalIndicators() {
+        Map<String, Object> indicators = new LinkedHashMap<>();
+        beanFactory.getBeansOfType(HealthIndicator.class).forEach((name, bean) -> addIfCritical(indicators, name, bean));
+        beanFactory.getBeansOfType(ReactiveHealthIndicator.class).forEach((name, bean) -> addIfCritical(indicators, name, bean));
+        return indicators;
+    }
+
+    private static void addIfCritical(Map<String, Object> indicators, String beanName, Object indicator) {
+        if (indicator instanceof CriticalityAware aware && aware.isCritical()) {
+            indicators.put(componentName(beanName), indicator);
+        }
+    }
+
+    /**
+     * Same naming rule actuator uses: strip the "HealthIndicator" suffix from the bean name
+     */
+    static String componentName(String beanName) {
+        String suffix = "healthindicator";
+        if (beanName.length() > suffix.length() && beanName.toLowerCase(Locale.ENGLISH).endsWith(suffix)) {
+            return beanName.substring(0, beanName.length() - suffix.length());
+        }
+        return beanName;
+    }
+}
@@ -0,0 +1,90 @@
+package com.smartuser.healthmonitor.probe;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.health.CompositeHealthIndicatorRegistrar;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registers dedicated Kubernetes liveness/readiness endpoints that bypass the
+ * actuator pipeline, Spring Security and JSON serialization
+ */
+@Slf4j
+@AutoConfiguration(after = CompositeHealthIndicatorRegistrar.class)
+@EnableConfigurationProperties(HealthMonitorProperties.class)
+@ConditionalOnProperty(prefix = "health.monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(prefix = "health.monitor.probes", name = "enabled", havingValue = "true", matchIfMissing = false)
+@ConditionalOnWebApplication
+public class ProbeEndpointAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ProbeStateHolder probeStateHolder() {
+        return new ProbeStateHolder();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CriticalIndicatorRefresher criticalIndicatorRefresher(ListableBeanFactory beanFactory,
+                                                                 ProbeStateHolder probeStateHolder,
+                                                                 HealthMonitorProperties properties,
+                                                                 MonitoringOverhead monitoringOverhead) {
+        return new CriticalIndicatorRefresher(beanFactory, probeStateHolder, properties, monitoringOverhead);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(name = "jakarta.servlet.Filter")
+    static class ServletProbeConfiguration {
+
+        @Bean
+        public FilterRegistrationBean<ProbeEndpointFilter> livenessProbeFilter(ProbeStateHolder probeStateHolder,
+                                                                               HealthMonitorProperties properties) {
+            return probeFilter("livenessProbeFilter", properties.getProbes().getLivenessPath(),
+                    new ProbeEndpointFilter(probeStateHolder::liveness));
+        }
+
+        @Bean
+        public FilterRegistrationBean<ProbeEndpointFilter> readinessProbeFilter(ProbeStateHolder probeStateHolder,
+                                                                                HealthMonitorProperties properties) {
+            return probeFilter("readinessProbeFilter", properties.getProbes().getReadinessPath(),
+                    new ProbeEndpointFilter(probeStateHolder::readiness));
+        }
+
+        private static FilterRegistrationBean<ProbeEndpointFilter> probeFilter(String name, String path,
+                                                                               ProbeEndpointFilter filter) {
+            log.info("Registering probe endpoint {}", path);
+            FilterRegistrationBean<ProbeEndpointFilter> registration = new FilterRegistrationBean<>(filter);
+            registration.setName(name);
+            registration.addUrlPatterns(path);
+            // Ahead of Spring Security (SecurityProperties.DEFAULT_FILTER_ORDER = -100)
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveProbeConfiguration {
+
+        @Bean
+        public ProbeWebFilter probeWebFilter(ProbeStateHolder probeStateHolder, HealthMonitorProperties properties) {
+            log.info("Registering probe endpoints {} and {}", properties.getProbes().getLivenessPath(),
+                    properties.getProbes().getReadinessPath());
+            return new ProbeWebFilter(probeStateHolder, properties);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.smartuser.healthmonitor.probe;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Servlet filter answering a probe path with a precomputed response.
+ * Registered ahead of Spring Security and the DispatcherServlet and mapped to
+ * the probe path only, so the request never reaches the actuator pipeline and
+ * no JSON is serialized.
+ */
+public class ProbeEndpointFilter implements Filter {
+
+    private static final String CONTENT_TYPE = "application/json";
+
+    private final Supplier<ProbeResponse> response;
+
+    public ProbeEndpointFilter(Supplier<ProbeResponse> response) {
+        this.response = response;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse servletResponse, FilterChain chain)
+            throws IOException, ServletException {
+        ProbeResponse current = response.get();
+        HttpServletResponse httpResponse = (HttpServletResponse) servletResponse;
+        httpResponse.setStatus(current.status());
+        httpResponse.setContentType(CONTENT_TYPE);
+        httpResponse.setContentLength(current.body().length);
+        httpResponse.getOutputStream().write(current.body());
+    }
+}
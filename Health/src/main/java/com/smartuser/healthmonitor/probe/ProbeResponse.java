@@ -0,0 +1,13 @@
+package com.smartuser.healthmonitor.probe;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fully rendered probe response: HTTP status plus the JSON body bytes
+ */
+public record ProbeResponse(int status, byte[] body) {
+
+    public static ProbeResponse of(int status, String json) {
+        return new ProbeResponse(status, json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,81 @@
+package com.smartuser.healthmonitor.probe;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the precomputed liveness and readiness responses.
+ * Responses are rebuilt only when an input changes (availability events or the
+ * critical indicator refresh), so serving a probe is a single volatile read.
+ */
+@Slf4j
+public class ProbeStateHolder implements ApplicationListener<AvailabilityChangeEvent<?>> {
+
+    private static final ProbeResponse UP = ProbeResponse.of(200, "{\"status\":\"UP\"}");
+    private static final ProbeResponse DOWN = ProbeResponse.of(503, "{\"status\":\"DOWN\"}");
+    private static final ProbeResponse OUT_OF_SERVICE = ProbeResponse.of(503, "{\"status\":\"OUT_OF_SERVICE\"}");
+
+    private volatile ProbeResponse liveness = UP;
+    private volatile ProbeResponse readiness = OUT_OF_SERVICE;
+
+    // Guarded by this
+    private boolean acceptingTraffic = false;
+    private List<String> criticalDown = null;
+    private ProbeResponse criticalDownResponse = OUT_OF_SERVICE;
+
+    public ProbeResponse liveness() {
+        return liveness;
+    }
+
+    public ProbeResponse readiness() {
+        return readiness;
+    }
+
+    @Override
+    public void onApplicationEvent(AvailabilityChangeEvent<?> event) {
+        if (event.getState() instanceof LivenessState state) {
+            liveness = state == LivenessState.CORRECT ? UP : DOWN;
+        } else if (event.getState() instanceof ReadinessState state) {
+            synchronized (this) {
+                acceptingTraffic = state == ReadinessState.ACCEPTING_TRAFFIC;
+                publishReadiness();
+            }
+        }
+    }
+
+    /**
+     * Record the outcome of a critical indicator refresh
+     *
+     * @param downComponents critical components currently DOWN or OUT_OF_SERVICE
+     */
+    public synchronized void updateCritical(List<String> downComponents) {
+        if (downComponents.equals(criticalDown)) {
+            return;
+        }
+        if (downComponents.isEmpty()) {
+            log.info("Readiness: all critical components are up");
+        } else {
+            log.warn("Readiness: critical components down {}", downComponents);
+            criticalDownResponse = ProbeResponse.of(503, downComponents.stream()
+                    .map(name -> "\"" + name + "\"")
+                    .collect(Collectors.joining(",", "{\"status\":\"OUT_OF_SERVICE\",\"down\":[", "]}")));
+        }
+        criticalDown = List.copyOf(downComponents);
+        publishReadiness();
+    }
+
+    private void publishReadiness() {
+        if (!acceptingTraffic || criticalDown == null) {
+            readiness = OUT_OF_SERVICE;
+        } else {
+            readiness = criticalDown.isEmpty() ? UP : criticalDownResponse;
+        }
+    }
+}
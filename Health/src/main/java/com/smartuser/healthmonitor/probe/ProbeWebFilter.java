@@ -0,0 +1,53 @@
+package com.smartuser.healthmonitor.probe;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of {@link ProbeEndpointFilter}: answers the probe paths
+ * with precomputed bytes before Spring Security and the actuator handlers
+ */
+public class ProbeWebFilter implements WebFilter, Ordered {
+
+    private final ProbeStateHolder stateHolder;
+    private final String livenessPath;
+    private final String readinessPath;
+
+    public ProbeWebFilter(ProbeStateHolder stateHolder, HealthMonitorProperties properties) {
+        this.stateHolder = stateHolder;
+        this.livenessPath = properties.getProbes().getLivenessPath();
+        this.readinessPath = properties.getProbes().getReadinessPath();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().value();
+        ProbeResponse current;
+        if (livenessPath.equals(path)) {
+            current = stateHolder.liveness();
+        } else if (readinessPath.equals(path)) {
+            current = stateHolder.readiness();
+        } else {
+            return chain.filter(exchange);
+        }
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.valueOf(current.status()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(current.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(current.body())));
+    }
+}
@@ -0,0 +1,21 @@
+package com.smartuser.healthmonitor.status;
+
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * Receives every evaluation recorded by {@link HealthStatusTracker}.
+ * Called on the probing thread, so implementations must be cheap and must not block.
+ */
+public interface HealthSampleListener {
+
+    /**
+     * @param durationNanos probe duration, or -1 when the indicator does not measure one
+     */
+    void onSample(String component, Status status, long durationNanos, long timestamp);
+
+    /**
+     * An adopted status change (after hysteresis); {@code from} is null for the first adopted status
+     */
+    default void onTransition(String component, Status from, Status to, String reason, long timestamp) {
+    }
+}
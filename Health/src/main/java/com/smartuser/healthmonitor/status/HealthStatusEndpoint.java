@@ -0,0 +1,24 @@
+package com.smartuser.healthmonitor.status;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Exposes adopted component statuses with transition and flap counts at /actuator/healthstatus
+ */
+@Endpoint(id = "healthstatus")
+public class HealthStatusEndpoint {
+
+    private final HealthStatusTracker tracker;
+
+    public HealthStatusEndpoint(HealthStatusTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @ReadOperation
+    public Map<String, HealthStatusTracker.ComponentSnapshot> components() {
+        return tracker.snapshot();
+    }
+}
@@ -0,0 +1,167 @@
+package com.smartuser.healthmonitor.status;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.util.function.SingletonSupplier;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.HealthMonitorProperties.TransitionsConfig;
+import com.smartuser.healthmonitor.notifier.HealthStatusNotifier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Central per-component status state machine.
+ * Indicators report every evaluation here; a new status is only adopted after
+ * {@code consecutiveResults} identical results in a row, and only adopted changes
+ * reach {@link HealthStatusNotifier}. Alert volume therefore follows real
+ * transitions instead of how often /actuator/health is polled.
+ * Samples and adopted transitions are also fanned out to {@link HealthSampleListener} beans.
+ */
+@Slf4j
+public class HealthStatusTracker {
+
+    private final HealthMonitorProperties properties;
+    private final ObjectProvider<HealthStatusNotifier> notifierProvider;
+    private final SingletonSupplier<List<HealthSampleListener>> listeners;
+    private final Map<String, ComponentState> components = new ConcurrentHashMap<>();
+
+    public HealthStatusTracker(HealthMonitorProperties properties, ObjectProvider<HealthStatusNotifier> notifierProvider,
+                               ObjectProvider<HealthSampleListener> listenerProvider) {
+        this.properties = properties;
+        this.notifierProvider = notifierProvider;
+        // Resolved on first sample, after every listener bean exists
+        this.listeners = SingletonSupplier.of(() -> listenerProvider.orderedStream().toList());
+    }
+
+    /**
+     * Record an evaluated health, using its "reason" or "error" detail as the transition reason
+     */
+    public void record(String component, Health health) {
+        record(component, health, -1);
+    }
+
+    /**
+     * Record an evaluated health together with how long the probe took
+     */
+    public void record(String component, Health health, long durationNanos) {
+        Object reason = health.getDetails().get("reason");
+        if (reason == null) {
+            reason = health.getDetails().get("error");
+        }
+        record(component, health.getStatus(), reason != null ? reason.toString() : null, durationNanos);
+    }
+
+    /**
+     * Record one evaluation result for a component
+     */
+    public void record(String component, Status status, String reason) {
+        record(component, status, reason, -1);
+    }
+
+    /**
+     * Record one evaluation result with the probe duration (-1 when not measured)
+     */
+    public void record(String component, Status status, String reason, long durationNanos) {
+        TransitionsConfig config = properties.getTransitions();
+        long now = System.currentTimeMillis();
+        ComponentState state = components.computeIfAbsent(component, key -> new ComponentState());
+        Transition transition = state.observe(status, config, now);
+        for (HealthSampleListener listener : listeners.obtain()) {
+            try {
+                listener.onSample(component, status, durationNanos, now);
+                if (transition != null) {
+                    listener.onTransition(component, transition.from(), status, reason, now);
+                }
+            } catch (RuntimeException e) {
+                log.debug("Health sample listener {} failed: {}", listener.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        if (transition == null || !transition.shouldNotify()) {
+            return;
+        }
+        log.info("Health transition: {} {} -> {} (transition #{}, flaps {})", component,
+                transition.from() != null ? transition.from().getCode() : "NONE", status.getCode(),
+                transition.transitions(), transition.flaps());
+        notifierProvider.ifAvailable(notifier ->
+                notifier.notifyHealthStatusChange(component, status.getCode(), reason != null ? reason : "n/a"));
+    }
+
+    /**
+     * Current adopted status and transition counters, keyed by component
+     */
+    public Map<String, ComponentSnapshot> snapshot() {
+        Map<String, ComponentSnapshot> snapshot = new TreeMap<>();
+        components.forEach((component, state) -> snapshot.put(component, state.snapshot()));
+        return snapshot;
+    }
+
+    private record Transition(Status from, long transitions, long flaps, boolean shouldNotify) {
+    }
+
+    /**
+     * Point-in-time view of one component
+     */
+    public record ComponentSnapshot(String status, String pendingStatus, int pendingCount,
+                                    long since, long transitions, long flaps) {
+    }
+
+    private static final class ComponentState {
+
+        private Status reported;
+        private Status previous;
+        private long reportedSince;
+        private Status candidate;
+        private int streak;
+        private long transitions;
+        private long flaps;
+
+        synchronized Transition observe(Status status, TransitionsConfig config, long now) {
+            if (status.equals(reported)) {
+                candidate = null;
+                streak = 0;
+                return null;
+            }
+            if (status.equals(candidate)) {
+                streak++;
+            } else {
+                candidate = status;
+                streak = 1;
+            }
+            if (streak < Math.max(1, config.getConsecutiveResults())) {
+                return null;
+            }
+
+            Status from = reported;
+            // Going straight back to the status we just left, within the window, is a flap
+            if (status.equals(previous) && now - reportedSince <= config.getFlapWindowMs()) {
+                flaps++;
+            }
+            previous = reported;
+            reported = status;
+            reportedSince = now;
+            candidate = null;
+            streak = 0;
+
+            if (from == null) {
+                // A component first seen UP is simply the normal starting point, not news
+                return new Transition(null, transitions, flaps, !Status.UP.equals(status));
+            }
+            transitions++;
+            return new Transition(from, transitions, flaps, true);
+        }
+
+        synchronized ComponentSnapshot snapshot() {
+            return new ComponentSnapshot(
+                    reported != null ? reported.getCode() : null,
+                    candidate != null ? candidate.getCode() : null,
+                    streak, reportedSince, transitions, flaps);
+        }
+    }
+}
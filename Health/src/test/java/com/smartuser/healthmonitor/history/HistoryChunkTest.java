@@ -0,0 +1,118 @@
+package com.smartuser.healthmonitor.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class HistoryChunkTest {
+
+    @Test
+    void steadySamplesRoundTrip() {
+        HistoryChunk chunk = new HistoryChunk(4096);
+        List<long[]> written = new ArrayList<>();
+        long timestamp = 1_700_000_000_000L;
+        for (int i = 0; i < 500; i++) {
+            long[] sample = { timestamp + i * 10_000L, 1_250, i < 400 ? 1 : 2 };
+            assertTrue(chunk.append(sample[0], sample[1], (int) sample[2]));
+            written.add(sample);
+        }
+        assertEquals(500, chunk.count());
+        assertEquals(written.get(0)[0], chunk.firstTimestamp());
+        assertEquals(written.get(499)[0], chunk.lastTimestamp());
+        assertDecodes(written, chunk);
+
+        chunk.seal();
+        assertDecodes(written, chunk);
+    }
+
+    @Test
+    void irregularSamplesRoundTripThroughEveryEncoding() {
+        HistoryChunk chunk = new HistoryChunk(64 * 1024);
+        Random random = new Random(42);
+        // delta-of-delta in each timestamp bucket, including negative and full 64-bit ones
+        long[] jitters = { 0, 1, -1, 63, -64, 255, -256, 2047, -2048, 1_000_000, -1_000_000 };
+        List<long[]> written = new ArrayList<>();
+        long timestamp = 1_700_000_000_000L;
+        long interval = 5_000;
+        for (int i = 0; i < 2000; i++) {
+            timestamp += Math.max(1, interval + jitters[i % jitters.length]);
+            long latency = switch (i % 5) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(1_000);
+                case 2 -> Long.MAX_VALUE >>> random.nextInt(40);
+                default -> 500 + random.nextInt(3);
+            };
+            int status = random.nextInt(10) < 8 ? 1 : random.nextInt(5);
+            if (!chunk.append(timestamp, latency, status)) {
+                break;
+            }
+            written.add(new long[] { timestamp, latency, status });
+        }
+        assertTrue(written.size() > 100, "chunk too small for the test: " + written.size());
+        assertDecodes(written, chunk);
+        chunk.seal();
+        assertDecodes(written, chunk);
+    }
+
+    @Test
+    void statusRunsLongerThanTheRunCounterSplit() {
+        HistoryChunk chunk = new HistoryChunk(64 * 1024);
+        List<long[]> written = new ArrayList<>();
+        for (int i = 0; i < 0xFFFF + 10; i++) {
+            long[] sample = { 1_000L * i, 100, 3 };
+            assertTrue(chunk.append(sample[0], sample[1], (int) sample[2]));
+            written.add(sample);
+        }
+        assertDecodes(written, chunk);
+        chunk.seal();
+        assertDecodes(written, chunk);
+    }
+
+    @Test
+    void fullChunkRejectsSamplesAndKeepsWhatFit() {
+        HistoryChunk chunk = new HistoryChunk(256);
+        Random random = new Random(7);
+        List<long[]> written = new ArrayList<>();
+        long timestamp = 0;
+        while (true) {
+            timestamp += 1 + random.nextInt(1_000_000);
+            long latency = random.nextLong() >>> 1;
+            int status = random.nextInt(5);
+            if (!chunk.append(timestamp, latency, status)) {
+                break;
+            }
+            written.add(new long[] { timestamp, latency, status });
+        }
+        assertFalse(written.isEmpty());
+        assertFalse(chunk.append(timestamp + 1, 0, 1));
+        assertEquals(written.size(), chunk.count());
+        chunk.seal();
+        assertDecodes(written, chunk);
+    }
+
+    @Test
+    void sealedChunkRejectsSamples() {
+        HistoryChunk chunk = new HistoryChunk(1024);
+        assertTrue(chunk.append(1_000, 10, 1));
+        chunk.seal();
+        assertFalse(chunk.append(2_000, 10, 1));
+        assertDecodes(List.of(new long[] { 1_000, 10, 1 }), chunk);
+    }
+
+    private static void assertDecodes(List<long[]> expected, HistoryChunk chunk) {
+        List<long[]> decoded = new ArrayList<>();
+        chunk.forEach((timestamp, latency, status) -> decoded.add(new long[] { timestamp, latency, status }));
+        assertEquals(expected.size(), decoded.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i)[0], decoded.get(i)[0], "timestamp of sample " + i);
+            assertEquals(expected.get(i)[1], decoded.get(i)[1], "latency of sample " + i);
+            assertEquals(expected.get(i)[2], decoded.get(i)[2], "status of sample " + i);
+        }
+    }
+}
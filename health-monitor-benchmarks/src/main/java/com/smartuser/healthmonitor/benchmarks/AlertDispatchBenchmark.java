@@ -0,0 +1,54 @@
+package com.smartuser.healthmonitor.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.smartuser.healthmonitor.notifier.HealthStatusNotifier;
+
+/**
+ * Cost of HealthStatusNotifier.sendAlert() with webhook and email delivery disabled:
+ * the overhead measurement and payload building every alert pays before any channel is tried.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-jmh.xml")
+@State(Scope.Thread)
+public class AlertDispatchBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean withThrowable;
+
+    private MethodHandle sendAlert;
+    private HealthStatusNotifier notifier;
+    private Throwable throwable;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        notifier = BenchmarkFixtures.notifier(BenchmarkFixtures.properties());
+        sendAlert = MethodHandles.privateLookupIn(HealthStatusNotifier.class, MethodHandles.lookup())
+                .findVirtual(HealthStatusNotifier.class, "sendAlert",
+                        MethodType.methodType(void.class, String.class, String.class, Throwable.class));
+        throwable = withThrowable ? new IllegalStateException("Simulated failure") : null;
+    }
+
+    @Benchmark
+    public void sendAlert() throws Throwable {
+        sendAlert.invokeExact(notifier, "ERROR", "Runtime exception: Simulated failure", throwable);
+    }
+}
@@ -0,0 +1,59 @@
+package com.smartuser.healthmonitor.benchmarks;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.execution.MonitorExecutor;
+import com.smartuser.healthmonitor.health.LogHealthIndicator;
+import com.smartuser.healthmonitor.notifier.HealthStatusNotifier;
+import com.smartuser.healthmonitor.overhead.MonitoringOverhead;
+import com.smartuser.healthmonitor.status.HealthSampleListener;
+import com.smartuser.healthmonitor.status.HealthStatusTracker;
+
+/**
+ * Builds starter components the way the auto-configuration does, without a Spring context.
+ * Optional collaborators are left empty so only the measured code path runs.
+ */
+final class BenchmarkFixtures {
+
+    private static final StaticListableBeanFactory EMPTY = new StaticListableBeanFactory();
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Defaults from HealthMonitorProperties with webhook and email alerts off
+     */
+    static HealthMonitorProperties properties() {
+        HealthMonitorProperties properties = new HealthMonitorProperties();
+        properties.getLogs().getWebhook().setEnabled(false);
+        properties.getLogs().getEmail().setEnabled(false);
+        return properties;
+    }
+
+    static MonitoringOverhead overhead(HealthMonitorProperties properties) {
+        return new MonitoringOverhead(properties);
+    }
+
+    static HealthStatusTracker statusTracker(HealthMonitorProperties properties) {
+        return new HealthStatusTracker(properties, none(HealthStatusNotifier.class), none(HealthSampleListener.class));
+    }
+
+    static LogHealthIndicator logHealthIndicator(HealthMonitorProperties properties) {
+        return new LogHealthIndicator(properties, statusTracker(properties), overhead(properties));
+    }
+
+    static HealthStatusNotifier notifier(HealthMonitorProperties properties) {
+        return new HealthStatusNotifier(properties, none(LogHealthIndicator.class), overhead(properties),
+                executor(properties));
+    }
+
+    static MonitorExecutor executor(HealthMonitorProperties properties) {
+        return new MonitorExecutor(properties);
+    }
+
+    static <T> ObjectProvider<T> none(Class<T> type) {
+        return EMPTY.getBeanProvider(type);
+    }
+}
@@ -0,0 +1,60 @@
+package com.smartuser.healthmonitor.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.actuate.health.Health;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.health.DatabaseHealthIndicator;
+import com.smartuser.healthmonitor.latency.ProbeLatencyMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Full database probe against an in-memory H2 behind a Hikari pool, as in a default Boot app.
+ * Overhead accounting is off, so no cached result is reused and every call reaches the database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-jmh.xml")
+@State(Scope.Benchmark)
+public class DatabaseHealthIndicatorBenchmark {
+
+    private HikariDataSource dataSource;
+    private DatabaseHealthIndicator indicator;
+
+    @Setup
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+
+        HealthMonitorProperties properties = BenchmarkFixtures.properties();
+        indicator = new DatabaseHealthIndicator(dataSource, properties, new ProbeLatencyMonitor(properties),
+                BenchmarkFixtures.statusTracker(properties), BenchmarkFixtures.overhead(properties),
+                BenchmarkFixtures.executor(properties));
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public Health health() {
+        return indicator.health();
+    }
+}
@@ -0,0 +1,286 @@
+package com.smartuser.healthmonitor.benchmarks;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Error-storm load harness for the exception handling and alerting path.
+ *
+ * Starts a {@link StubWebhookServer}, launches the scheduler-demo-app jar pointed at it with
+ * every internet-facing check disabled, then drives GET /api/jobs/test-error at fixed arrival
+ * rates. Load is open-model: requests are fired on schedule whether or not earlier ones have
+ * returned, and latency is measured from the scheduled send time so a stalled server is not
+ * hidden by a stalled client. Per rate it reports p50/p99/p999 latency, throughput, alert
+ * delivery lag at the webhook and heap/GC deltas read from the app's actuator metrics.
+ *
+ * Usage: ErrorStormHarness --jar=&lt;scheduler-demo-app.jar&gt; [--rates=1000,2500,5000]
+ *        [--duration=30] [--warmup=10] [--webhookLatencyMs=20] [--webhookFailureRate=0]
+ *        [--heap=512m] [--output=target/error-storm.json]
+ */
+public class ErrorStormHarness {
+
+    private static final String ERROR_PATH = "/api/jobs/test-error";
+    private static final Pattern STATISTIC = Pattern.compile(
+            "\"statistic\"\\s*:\\s*\"(\\w+)\"\\s*,\\s*\"value\"\\s*:\\s*([-0-9.Ee]+)");
+
+    private final Map<String, String> options;
+    private final HttpClient client;
+    private final String authorization;
+    private String baseUrl;
+
+    ErrorStormHarness(Map<String, String> options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        String user = System.getenv().getOrDefault("SCHEDULER_ACTUATOR_USERNAME", "actuator");
+        String password = System.getenv().getOrDefault("SCHEDULER_ACTUATOR_PASSWORD", "change-this-password");
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "rates", "1000,2500,5000",
+                "duration", "30",
+                "warmup", "10",
+                "webhookLatencyMs", "20",
+                "webhookFailureRate", "0",
+                "heap", "512m",
+                "output", "target/error-storm.json"));
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (arg.startsWith("--") && eq > 2) {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        if (!options.containsKey("jar")) {
+            throw new IllegalArgumentException("--jar=<path to scheduler-demo-app jar> is required");
+        }
+        new ErrorStormHarness(options).run();
+    }
+
+    private void run() throws Exception {
+        int[] rates = Arrays.stream(options.get("rates").split(",")).mapToInt(r -> Integer.parseInt(r.trim())).toArray();
+        int duration = Integer.parseInt(options.get("duration"));
+        Path output = Path.of(options.get("output"));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+
+        try (StubWebhookServer webhook = new StubWebhookServer(Long.parseLong(options.get("webhookLatencyMs")),
+                Double.parseDouble(options.get("webhookFailureRate")))) {
+            Process app = startApplication(webhook.url(), output.toAbsolutePath().getParent());
+            try {
+                awaitReady(app);
+                System.out.println("Warming up at " + rates[0] + " req/s for " + options.get("warmup") + "s");
+                drive(rates[0], Integer.parseInt(options.get("warmup")));
+                webhook.drain();
+
+                List<String> stages = new ArrayList<>();
+                for (int rate : rates) {
+                    Map<String, Double> before = jvmMetrics();
+                    StageResult stage = drive(rate, duration);
+                    Map<String, Double> after = jvmMetrics();
+                    String json = stage.toJson(webhook.drain(), before, after);
+                    System.out.println(json);
+                    stages.add(json);
+                }
+
+                String json = String.format(Locale.ROOT,
+                        "{%n  \"webhookLatencyMs\": %s,%n  \"webhookFailureRate\": %s,%n  \"durationSeconds\": %d,%n"
+                        + "  \"stages\": [%n%s%n  ]%n}%n",
+                        options.get("webhookLatencyMs"), options.get("webhookFailureRate"), duration,
+                        String.join(",\n", stages));
+                Files.writeString(output, json, StandardCharsets.UTF_8);
+                System.out.println("Error-storm results written to " + output.toAbsolutePath());
+            } finally {
+                app.destroy();
+                if (!app.waitFor(20, TimeUnit.SECONDS)) {
+                    app.destroyForcibly();
+                }
+            }
+        }
+    }
+
+    /**
+     * Launch the demo app on a free port with only loopback dependencies
+     */
+    private Process startApplication(String webhookUrl, Path workDir) throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        baseUrl = "http://127.0.0.1:" + port;
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = List.of(java,
+                "-Xms" + options.get("heap"), "-Xmx" + options.get("heap"),
+                "-jar", options.get("jar"),
+                "--server.port=" + port,
+                "--spring.boot.admin.client.enabled=false",
+                "--health.monitor.external.enabled=false",
+                "--health.monitor.connectivity.enabled=false",
+                "--health.monitor.logs.email.enabled=false",
+                "--health.monitor.logs.webhook.enabled=true",
+                "--health.monitor.logs.webhook.url=" + webhookUrl,
+                "--health.monitor.history.persistence.directory=" + workDir.resolve("error-storm-history"),
+                "--logging.file.name=" + workDir.resolve("error-storm-app.log"),
+                "--management.endpoints.web.exposure.include=health,metrics");
+        System.out.println("Starting " + options.get("jar") + " on port " + port + ", webhook " + webhookUrl);
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve("error-storm-app.out").toFile())
+                .start();
+    }
+
+    private void awaitReady(Process app) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(120);
+        while (System.nanoTime() < deadline) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("Application exited with " + app.exitValue() + " during startup");
+            }
+            try {
+                if (get("/api/jobs/status").statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Application not ready after 120s");
+    }
+
+    /**
+     * Fire requests at a fixed arrival rate for the given time, then wait for stragglers
+     */
+    private StageResult drive(int rate, int seconds) throws InterruptedException {
+        int total = rate * seconds;
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long[] latencies = new long[total];
+        int[] statuses = new int[total];
+        CountDownLatch done = new CountDownLatch(total);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + ERROR_PATH))
+                .header("Authorization", authorization)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long scheduled = start + i * periodNanos;
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int slot = i;
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                latencies[slot] = System.nanoTime() - scheduled;
+                statuses[slot] = error == null ? response.statusCode() : -1;
+                done.countDown();
+            });
+        }
+        long sentNanos = System.nanoTime() - start;
+        done.await(45, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - start;
+        return new StageResult(rate, total, sentNanos, elapsedNanos, latencies, statuses, done.getCount());
+    }
+
+    /**
+     * Heap, GC and allocation figures from the app's /actuator/metrics
+     */
+    private Map<String, Double> jvmMetrics() {
+        Map<String, Double> metrics = new HashMap<>();
+        metric(metrics, "jvm.gc.pause", "gcPause");
+        metric(metrics, "jvm.gc.memory.allocated", "allocated");
+        metric(metrics, "jvm.memory.used?tag=area:heap", "heapUsed");
+        metric(metrics, "jvm.memory.max?tag=area:heap", "heapMax");
+        return metrics;
+    }
+
+    private void metric(Map<String, Double> metrics, String name, String key) {
+        try {
+            HttpResponse<String> response = get("/actuator/metrics/" + name);
+            if (response.statusCode() != 200) {
+                return;
+            }
+            Matcher matcher = STATISTIC.matcher(response.body());
+            while (matcher.find()) {
+                metrics.put(key + "." + matcher.group(1), Double.parseDouble(matcher.group(2)));
+            }
+        } catch (IOException | InterruptedException e) {
+            System.err.println("Could not read metric " + name + ": " + e.getMessage());
+        }
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .header("Authorization", authorization)
+                        .timeout(Duration.ofSeconds(5))
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private record StageResult(int rate, int total, long sentNanos, long elapsedNanos,
+                               long[] latencies, int[] statuses, long unfinished) {
+
+        String toJson(StubWebhookServer.Window alerts, Map<String, Double> before, Map<String, Double> after) {
+            long completed = total - unfinished;
+            long expected = Arrays.stream(statuses).filter(status -> status == 500).count();
+            long[] sorted = Arrays.stream(latencies).filter(latency -> latency > 0).sorted().toArray();
+            long[] lags = alerts.lagsMs().clone();
+            Arrays.sort(lags);
+            return String.format(Locale.ROOT,
+                    "    {\"targetRate\": %d, \"sent\": %d, \"completed\": %d, \"unexpectedStatus\": %d, "
+                    + "\"sendRate\": %.1f, \"throughput\": %.1f,%n"
+                    + "     \"latencyMs\": {\"p50\": %.3f, \"p99\": %.3f, \"p999\": %.3f, \"max\": %.3f},%n"
+                    + "     \"alerts\": {\"received\": %d, \"rejected\": %d, \"lagMs\": {\"p50\": %d, \"p99\": %d, \"max\": %d}},%n"
+                    + "     \"jvm\": {\"gcCount\": %.0f, \"gcPauseSeconds\": %.3f, \"gcPauseMaxSeconds\": %.3f, "
+                    + "\"allocatedBytes\": %.0f, \"heapUsedBytes\": %.0f, \"heapMaxBytes\": %.0f}}",
+                    rate, total, completed, completed - expected,
+                    total * 1e9 / sentNanos, completed * 1e9 / elapsedNanos,
+                    percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6,
+                    percentile(sorted, 0.999) / 1e6, percentile(sorted, 1.0) / 1e6,
+                    alerts.received(), alerts.rejected(),
+                    percentile(lags, 0.50), percentile(lags, 0.99), percentile(lags, 1.0),
+                    delta(before, after, "gcPause.COUNT"), delta(before, after, "gcPause.TOTAL_TIME"),
+                    after.getOrDefault("gcPause.MAX", 0.0), delta(before, after, "allocated.COUNT"),
+                    after.getOrDefault("heapUsed.VALUE", 0.0), after.getOrDefault("heapMax.VALUE", 0.0));
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+
+        private static double delta(Map<String, Double> before, Map<String, Double> after, String key) {
+            return after.getOrDefault(key, 0.0) - before.getOrDefault(key, 0.0);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.smartuser.healthmonitor.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.advice.GlobalExceptionHandler;
+
+/**
+ * Static-resource classification done by GlobalExceptionHandler for every handled exception.
+ * The method is private, so it is called through a MethodHandle resolved once in setup;
+ * the path mixes cover requests that are ignored early, late and not at all.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-jmh.xml")
+@State(Scope.Thread)
+public class ExceptionClassificationBenchmark {
+
+    private static final String[] STATIC_PATHS = {
+            "/favicon.ico", "/robots.txt", "/.well-known/security.txt", "/static/app.js", "/assets/logo.png"
+    };
+    private static final String[] API_PATHS = {
+            "/api/jobs/status", "/api/jobs/processDataTask/history", "/api/orders/42", "/api/test/error", "/"
+    };
+
+    @Param({ "static", "api", "mixed" })
+    public String pathMix;
+
+    private MethodHandle shouldIgnoreException;
+    private GlobalExceptionHandler handler;
+    private String[] paths;
+    private Exception[] exceptions;
+    private int next;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        HealthMonitorProperties properties = BenchmarkFixtures.properties();
+        handler = new GlobalExceptionHandler(BenchmarkFixtures.notifier(properties), properties,
+                BenchmarkFixtures.overhead(properties));
+        shouldIgnoreException = MethodHandles.privateLookupIn(GlobalExceptionHandler.class, MethodHandles.lookup())
+                .findVirtual(GlobalExceptionHandler.class, "shouldIgnoreException",
+                        MethodType.methodType(boolean.class, Exception.class, String.class));
+
+        paths = switch (pathMix) {
+            case "static" -> STATIC_PATHS;
+            case "api" -> API_PATHS;
+            default -> interleave(STATIC_PATHS, API_PATHS);
+        };
+        exceptions = new Exception[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            exceptions[i] = new IllegalStateException("Request to " + paths[i] + " failed");
+        }
+    }
+
+    @Benchmark
+    public boolean shouldIgnoreException() throws Throwable {
+        int i = Math.floorMod(next++, paths.length);
+        return (boolean) shouldIgnoreException.invokeExact(handler, exceptions[i], paths[i]);
+    }
+
+    private static String[] interleave(String[] first, String[] second) {
+        String[] result = new String[first.length + second.length];
+        for (int i = 0; i < first.length; i++) {
+            result[2 * i] = first[i];
+            result[2 * i + 1] = second[i];
+        }
+        return result;
+    }
+}
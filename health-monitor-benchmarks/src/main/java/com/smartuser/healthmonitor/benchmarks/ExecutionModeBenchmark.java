@@ -0,0 +1,89 @@
+package com.smartuser.healthmonitor.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.actuate.health.Health;
+
+import com.smartuser.healthmonitor.HealthMonitorProperties;
+import com.smartuser.healthmonitor.execution.MonitorExecutor;
+import com.smartuser.healthmonitor.health.DatabaseHealthIndicator;
+import com.smartuser.healthmonitor.latency.ProbeLatencyMonitor;
+import com.smartuser.healthmonitor.notifier.HealthStatusNotifier;
+import com.smartuser.healthmonitor.overhead.Subsystem;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Platform threads (work inline on the caller) versus virtual-thread mode (bounded virtual
+ * threads) with 64 concurrent callers: database probes against H2 through a 10 connection pool,
+ * and alert submission where each delivery blocks for 5 ms like a slow webhook.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-jmh.xml")
+@Threads(64)
+@State(Scope.Benchmark)
+public class ExecutionModeBenchmark {
+
+    private static final long ALERT_DELIVERY_MS = 5;
+
+    @Param({ "platform", "virtual" })
+    public String mode;
+
+    private HikariDataSource dataSource;
+    private DatabaseHealthIndicator indicator;
+    private MonitorExecutor executor;
+
+    @Setup
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:execution;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(10);
+
+        HealthMonitorProperties properties = BenchmarkFixtures.properties();
+        properties.getExecution().setVirtualThreads("virtual".equals(mode));
+        executor = BenchmarkFixtures.executor(properties);
+        indicator = new DatabaseHealthIndicator(dataSource, properties, new ProbeLatencyMonitor(properties),
+                BenchmarkFixtures.statusTracker(properties), BenchmarkFixtures.overhead(properties), executor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public Health databaseProbe() {
+        return indicator.health();
+    }
+
+    /**
+     * The part of {@link HealthStatusNotifier} delivery the caller waits for in each mode
+     */
+    @Benchmark
+    public void alertDelivery() {
+        executor.execute(Subsystem.NOTIFIER, () -> {
+            try {
+                Thread.sleep(ALERT_DELIVERY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package com.smartuser.healthmonitor.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the hot-path benchmarks with the GC profiler and writes the results as JMH JSON.
+ *
+ * The GC profiler adds gc.alloc.rate.norm (bytes allocated per operation) and GC counts
+ * next to each score. Keep the JSON of every release to compare runs, e.g. with jmh.morethan.io.
+ *
+ * Usage: JmhRunner &lt;includeRegex&gt; &lt;output.json&gt;
+ */
+public class JmhRunner {
+
+    public static void main(String[] args) throws Exception {
+        String include = args.length > 0 ? args[0] : "Benchmark";
+        Path output = Path.of(args.length > 1 ? args[1] : "target/jmh-results.json");
+        Files.createDirectories(output.toAbsolutePath().getParent());
+
+        Options options = new OptionsBuilder()
+                .include(JmhRunner.class.getPackageName() + ".*" + include + ".*")
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(output.toString())
+                .build();
+
+        new Runner(options).run();
+        System.out.println("JMH results written to " + output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,56 @@
+package com.smartuser.healthmonitor.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.actuate.health.Health;
+
+import com.smartuser.healthmonitor.health.LogHealthIndicator;
+
+/**
+ * Error recording from many request threads at once, and the probe reading a full buffer.
+ * Both run against a buffer already at its 100 entry cap, the steady state during an error storm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-jmh.xml")
+@State(Scope.Benchmark)
+public class LogHealthIndicatorBenchmark {
+
+    private static final int BUFFER_CAPACITY = 100;
+
+    private LogHealthIndicator indicator;
+    private RuntimeException failure;
+
+    @Setup
+    public void setUp() {
+        indicator = BenchmarkFixtures.logHealthIndicator(BenchmarkFixtures.properties());
+        failure = new IllegalStateException("Simulated failure");
+        for (int i = 0; i < BUFFER_CAPACITY; i++) {
+            indicator.recordError("Runtime exception: Simulated failure", failure);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordErrorContended() {
+        indicator.recordError("Runtime exception: Simulated failure", failure);
+    }
+
+    @Benchmark
+    public Health healthWithFullBuffer() {
+        return indicator.health();
+    }
+}
@@ -0,0 +1,12 @@
+package com.smartuser.healthmonitor.benchmarks;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+
+/**
+ * Minimal host application used to measure what the starter adds to startup
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+public class StartupBenchmarkApplication {
+}
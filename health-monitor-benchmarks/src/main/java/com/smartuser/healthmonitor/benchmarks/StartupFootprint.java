@@ -0,0 +1,159 @@
+package com.smartuser.healthmonitor.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures the startup footprint of the health monitor starter.
+ *
+ * Each sample boots {@link StartupBenchmarkApplication} in a fresh JVM, once with
+ * the starter disabled and once enabled, and records context refresh time, bean
+ * count and heap used after a full GC. Medians are written as JSON and the run
+ * fails when the starter registers more beans than allowed or registers any of
+ * its beans twice.
+ *
+ * Usage: StartupFootprint &lt;runs&gt; &lt;maxStarterBeans&gt; &lt;output.json&gt;
+ */
+public class StartupFootprint {
+
+    private static final String CHILD_FLAG = "--child";
+    private static final String MARKER = "FOOTPRINT ";
+    private static final String STARTER_PACKAGE = "com.smartuser.healthmonitor.";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && CHILD_FLAG.equals(args[0])) {
+            runChild(Boolean.parseBoolean(args[1]));
+            return;
+        }
+
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int maxStarterBeans = args.length > 1 ? Integer.parseInt(args[1]) : 40;
+        Path output = Path.of(args.length > 2 ? args[2] : "target/startup-footprint.json");
+
+        Map<Boolean, List<long[]>> samples = new HashMap<>();
+        for (int i = 0; i < runs; i++) {
+            for (boolean enabled : new boolean[] { false, true }) {
+                samples.computeIfAbsent(enabled, k -> new ArrayList<>()).add(forkChild(enabled));
+            }
+        }
+
+        long[] disabled = medians(samples.get(false));
+        long[] enabled = medians(samples.get(true));
+        long starterBeans = enabled[1] - disabled[1];
+        long duplicates = samples.get(true).stream().mapToLong(sample -> sample[3]).max().orElse(0);
+
+        String json = String.format(Locale.ROOT,
+                "{%n"
+                + "  \"runs\": %d,%n"
+                + "  \"disabled\": {\"refreshMs\": %d, \"beanCount\": %d, \"heapUsedBytes\": %d},%n"
+                + "  \"enabled\": {\"refreshMs\": %d, \"beanCount\": %d, \"heapUsedBytes\": %d},%n"
+                + "  \"starter\": {\"refreshMs\": %d, \"beanCount\": %d, \"heapUsedBytes\": %d, \"duplicateBeans\": %d}%n"
+                + "}%n",
+                runs,
+                disabled[0], disabled[1], disabled[2],
+                enabled[0], enabled[1], enabled[2],
+                enabled[0] - disabled[0], starterBeans, enabled[2] - disabled[2], duplicates);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, json, StandardCharsets.UTF_8);
+        System.out.print(json);
+
+        if (duplicates > 0) {
+            System.err.println("Starter registers " + duplicates + " bean type(s) more than once");
+            System.exit(1);
+        }
+        if (starterBeans > maxStarterBeans) {
+            System.err.println("Starter adds " + starterBeans + " beans, budget is " + maxStarterBeans);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Boot the application once and print refresh time, bean count, heap used
+     * and the number of duplicated starter bean types
+     */
+    private static void runChild(boolean starterEnabled) {
+        long start = System.nanoTime();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(StartupBenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .properties(
+                        "health.monitor.enabled=" + starterEnabled,
+                        "health.monitor.external.url=http://localhost:1/health",
+                        "logging.level.root=WARN")
+                .run();
+        long refreshMs = (System.nanoTime() - start) / 1_000_000;
+
+        Map<Class<?>, Integer> starterTypes = new HashMap<>();
+        for (String name : context.getBeanDefinitionNames()) {
+            Class<?> type = context.getType(name);
+            if (type != null && type.getName().startsWith(STARTER_PACKAGE)
+                    && !type.getName().startsWith(StartupFootprint.class.getPackageName())) {
+                starterTypes.merge(type, 1, Integer::sum);
+            }
+        }
+        long duplicates = starterTypes.values().stream().filter(count -> count > 1).count();
+        int beanCount = context.getBeanDefinitionCount();
+
+        System.gc();
+        long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        context.close();
+
+        System.out.println(MARKER + refreshMs + " " + beanCount + " " + heapUsed + " " + duplicates);
+    }
+
+    private static long[] forkChild(boolean starterEnabled) throws IOException, InterruptedException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .filter(arg -> arg.startsWith("-Xm"))
+                .toList());
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"),
+                StartupFootprint.class.getName(), CHILD_FLAG, String.valueOf(starterEnabled)));
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        long[] sample = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(MARKER)) {
+                    sample = Arrays.stream(line.substring(MARKER.length()).trim().split(" "))
+                            .mapToLong(Long::parseLong)
+                            .toArray();
+                }
+            }
+        }
+        if (process.waitFor() != 0 || sample == null) {
+            throw new IllegalStateException("Startup sample failed (starterEnabled=" + starterEnabled + ")");
+        }
+        return sample;
+    }
+
+    private static long[] medians(List<long[]> samples) {
+        long[] result = new long[3];
+        for (int column = 0; column < result.length; column++) {
+            final int c = column;
+            long[] values = samples.stream().mapToLong(sample -> sample[c]).sorted().toArray();
+            result[column] = values[values.length / 2];
+        }
+        return result;
+    }
+}
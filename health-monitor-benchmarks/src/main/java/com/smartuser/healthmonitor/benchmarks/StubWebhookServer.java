@@ -0,0 +1,100 @@
+package com.smartuser.healthmonitor.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Loopback alert webhook for the error-storm harness.
+ *
+ * Each POST is held for a fixed latency and answered 503 with the configured probability,
+ * so slow and failing receivers can be simulated. Delivery lag is the receive time minus
+ * the timestamp the starter put into the alert payload.
+ */
+class StubWebhookServer implements AutoCloseable {
+
+    private static final Pattern TIMESTAMP = Pattern.compile("\"timestamp\"\\s*:\\s*(\\d+)");
+    private static final int MAX_LAGS = 1 << 20;
+
+    private final long latencyMs;
+    private final double failureRate;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final long[] lags = new long[MAX_LAGS];
+    private final AtomicLong lagCount = new AtomicLong();
+
+    StubWebhookServer(long latencyMs, double failureRate) throws IOException {
+        this.latencyMs = latencyMs;
+        this.failureRate = failureRate;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        this.server.createContext("/alerts", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/alerts";
+    }
+
+    /**
+     * Counts since the previous call: received, rejected, then the delivery lags in ms
+     */
+    synchronized Window drain() {
+        int count = (int) Math.min(lagCount.getAndSet(0), MAX_LAGS);
+        long[] window = new long[count];
+        System.arraycopy(lags, 0, window, 0, count);
+        return new Window(received.getAndSet(0), rejected.getAndSet(0), window);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        long receivedAt = System.currentTimeMillis();
+        String body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        received.incrementAndGet();
+        Matcher matcher = TIMESTAMP.matcher(body);
+        if (matcher.find()) {
+            long slot = lagCount.getAndIncrement();
+            if (slot < MAX_LAGS) {
+                lags[(int) slot] = receivedAt - Long.parseLong(matcher.group(1));
+            }
+        }
+
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        boolean fail = ThreadLocalRandom.current().nextDouble() < failureRate;
+        if (fail) {
+            rejected.incrementAndGet();
+        }
+        exchange.sendResponseHeaders(fail ? 503 : 204, -1);
+        exchange.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    record Window(long received, long rejected, long[] lagsMs) {
+    }
+}
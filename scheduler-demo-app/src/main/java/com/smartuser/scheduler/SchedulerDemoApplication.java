@@ -5,11 +5,14 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import com.smartuser.scheduler.config.SchedulerExecutionProperties;
+import com.smartuser.scheduler.config.SchedulerLockProperties;
 import com.smartuser.scheduler.config.SchedulerMonitorProperties;
 
 @SpringBootApplication
 @EnableScheduling
-@EnableConfigurationProperties(SchedulerMonitorProperties.class)
+@EnableConfigurationProperties({ SchedulerMonitorProperties.class, SchedulerExecutionProperties.class,
+        SchedulerLockProperties.class })
 public class SchedulerDemoApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,62 @@
+package com.smartuser.scheduler.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.smartuser.scheduler.job.JobStateRegistry;
+import com.smartuser.scheduler.job.ScheduleJitter;
+import com.smartuser.scheduler.job.TimedTaskScheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scheduler backend for @Scheduled jobs, replacing Spring's single-thread default so a slow
+ * or hung job no longer holds up every other job.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+public class SchedulerConfig {
+
+    /**
+     * Static and with lazy properties, as it is a BeanPostProcessor that registers jobs as their beans are created
+     */
+    @Bean
+    public static JobStateRegistry jobStateRegistry(ObjectProvider<SchedulerMonitorProperties> properties) {
+        return new JobStateRegistry(properties);
+    }
+
+    /**
+     * Picked up by @EnableScheduling as the "taskScheduler" bean
+     */
+    @Bean
+    public TaskScheduler taskScheduler(SchedulerExecutionProperties properties, SchedulerLockProperties lockProperties) {
+        ScheduleJitter jitter = ScheduleJitter.NONE;
+        SchedulerExecutionProperties.JitterConfig jitterConfig = properties.getJitter();
+        if (jitterConfig.isEnabled()) {
+            String instanceId = lockProperties.resolveInstanceId();
+            log.info("Job schedules staggered for instance {} (window {}ms, cron spread {}ms)",
+                    instanceId, jitterConfig.getWindowMs(), jitterConfig.getCronSpreadMs());
+            jitter = new ScheduleJitter(instanceId, jitterConfig.getWindowMs(), jitterConfig.getCronSpreadMs());
+        }
+
+        if (properties.getMode() == SchedulerExecutionProperties.Mode.VIRTUAL) {
+            log.info("Scheduled jobs run on virtual threads (overlapping runs: {})", properties.getOverlap());
+            SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+            scheduler.setVirtualThreads(true);
+            scheduler.setThreadNamePrefix("job-vt-");
+            return new TimedTaskScheduler(scheduler, jitter);
+        }
+
+        log.info("Scheduled jobs run on a pool of {} platform threads", properties.getPoolSize());
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Math.max(1, properties.getPoolSize()));
+        scheduler.setThreadNamePrefix("job-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        scheduler.initialize();
+        return new TimedTaskScheduler(scheduler, jitter);
+    }
+}
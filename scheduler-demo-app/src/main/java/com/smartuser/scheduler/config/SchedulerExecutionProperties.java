@@ -0,0 +1,99 @@
+package com.smartuser.scheduler.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Threads that run @Scheduled jobs.
+ */
+@Data
+@ConfigurationProperties(prefix = "scheduler.execution")
+public class SchedulerExecutionProperties {
+
+    /**
+     * PLATFORM: a fixed pool of poolSize threads. VIRTUAL: every run gets its own virtual thread.
+     */
+    private Mode mode = Mode.PLATFORM;
+
+    /**
+     * Platform threads shared by all jobs (PLATFORM mode).
+     */
+    private int poolSize = 4;
+
+    /**
+     * What to do with a run that comes due while its job is still running:
+     * SKIP it, COALESCE all such runs into one run after the current one, or run
+     * CONCURRENTly up to maxConcurrentRunsPerJob.
+     */
+    private OverlapPolicy overlap = OverlapPolicy.SKIP;
+
+    /**
+     * Runs of the same job allowed at once with overlap CONCURRENT; a run that finds the
+     * job at its cap is skipped.
+     */
+    private int maxConcurrentRunsPerJob = 1;
+
+    /**
+     * How long (ms) a CONCURRENT run waits for a free slot of its job before it is skipped.
+     */
+    private long permitWaitMs = 0;
+
+    /**
+     * Per-job overrides of overlap and maxConcurrentRunsPerJob, keyed by job name
+     * ("[Bean.method]") or just method name.
+     */
+    private Map<String, JobOverlapConfig> jobs = new HashMap<>();
+
+    /**
+     * Deterministic per-instance offset of each job's schedule.
+     */
+    private JitterConfig jitter = new JitterConfig();
+
+    @Data
+    public static class JitterConfig {
+        /**
+         * Enable/disable staggering job schedules across instances.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Largest offset (ms) of fixed-rate and fixed-delay jobs, capped at their period. May
+         * exceed scheduler.lock.min-hold-ms: a released lease is kept until just before the
+         * holder's next run, not only min-hold-ms.
+         */
+        private long windowMs = 10_000;
+
+        /**
+         * Largest offset (ms) of cron jobs; keep it below the cron interval.
+         */
+        private long cronSpreadMs = 10_000;
+    }
+
+    @Data
+    public static class JobOverlapConfig {
+        /**
+         * Overlap policy of this job; the global one if unset.
+         */
+        private OverlapPolicy overlap;
+
+        /**
+         * Concurrent runs of this job with overlap CONCURRENT; the global cap if unset.
+         */
+        private Integer maxConcurrentRuns;
+    }
+
+    public enum OverlapPolicy {
+        SKIP,
+        COALESCE,
+        CONCURRENT
+    }
+
+    public enum Mode {
+        PLATFORM,
+        VIRTUAL
+    }
+}
@@ -0,0 +1,95 @@
+package com.smartuser.scheduler.config;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Cluster-wide job lock, so each run of a job happens on one replica only, and partitioning
+ * of {@code @PartitionedJob}s over replicas.
+ */
+@Data
+@ConfigurationProperties(prefix = "scheduler.lock")
+public class SchedulerLockProperties {
+
+    /**
+     * Enable/disable the JDBC job lock (table scheduler_lock in the app's DataSource).
+     */
+    private boolean enabled = false;
+
+    /**
+     * Name of this replica in the lock tables and for schedule jitter; defaults to the host
+     * name plus instanceSuffix. Must be unique per replica and stable across its restarts.
+     */
+    private String instanceId;
+
+    /**
+     * Appended to the host name when instanceId is not set, to tell apart replicas on the
+     * same host (e.g. the server port).
+     */
+    private String instanceSuffix;
+
+    /**
+     * How long (ms) an acquired lease is valid unless renewed.
+     */
+    private long leaseMs = 60_000;
+
+    /**
+     * How often (ms) leases of running jobs are extended by leaseMs.
+     */
+    private long renewIntervalMs = 20_000;
+
+    /**
+     * Minimum time (ms) a lease is held from the start of a run; all that is held when the
+     * next planned run is unknown (one-off and coalesced runs).
+     */
+    private long minHoldMs = 5_000;
+
+    /**
+     * After a run, the job stays locked until this long (ms) before this replica's next
+     * planned run of it, so replicas whose triggers fire later in the same period skip it.
+     */
+    private long nextRunMarginMs = 1_000;
+
+    /**
+     * Spreading partitioned jobs over replicas (tables scheduler_node and scheduler_partition).
+     */
+    private PartitionConfig partitioning = new PartitionConfig();
+
+    /**
+     * The configured instance id, or host[:instanceSuffix]; unlike a pid, both survive a restart
+     */
+    public String resolveInstanceId() {
+        if (instanceId != null && !instanceId.isBlank()) {
+            return instanceId;
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "localhost";
+        }
+        return instanceSuffix != null && !instanceSuffix.isBlank() ? host + ":" + instanceSuffix : host;
+    }
+
+    @Data
+    public static class PartitionConfig {
+        /**
+         * Enable/disable partitioning; when off each run of a partitioned job owns every partition.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How often (ms) a replica refreshes its membership and rebalances partitions.
+         */
+        private long heartbeatIntervalMs = 5_000;
+
+        /**
+         * A replica not heard from for this long (ms) is dead and its partitions are reassigned.
+         */
+        private long memberTimeoutMs = 15_000;
+    }
+}
@@ -1,5 +1,8 @@
 package com.smartuser.scheduler.config;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import lombok.Data;
@@ -21,6 +24,12 @@ public class SchedulerMonitorProperties {
      */
     private long maxTaskDurationMs = 15_000;
 
+    /**
+     * Per-job overrides of maxTaskDurationMs, keyed by job name ("ClassName.method") or just the
+     * method name, for jobs that are expected to run longer.
+     */
+    private Map<String, JobMonitorConfig> jobs = new HashMap<>();
+
     /**
      * Maximum idle time (ms) since last successful completion.
      */
@@ -30,5 +39,85 @@ public class SchedulerMonitorProperties {
      * Minimum executions before enforcing idle detection (avoid false positives at startup).
      */
     private int minExecutionsBeforeIdleCheck = 1;
-}
 
+    /**
+     * Recent runs kept per job for /api/jobs/{name}/history (about 21 bytes each).
+     */
+    private int historySize = 100;
+
+    /**
+     * Watchdog that acts on runs exceeding maxTaskDurationMs as soon as they do.
+     */
+    private WatchdogConfig watchdog = new WatchdogConfig();
+
+    /**
+     * Persisting job runs to the app's database (tables scheduler_job_run and scheduler_job_state).
+     */
+    private PersistenceConfig persistence = new PersistenceConfig();
+
+    /**
+     * Deadline (ms) of a run of the given job: its override, else maxTaskDurationMs
+     */
+    public long maxTaskDurationMs(String job) {
+        JobMonitorConfig config = jobs.get(job);
+        if (config == null) {
+            config = jobs.get(job.substring(job.lastIndexOf('.') + 1));
+        }
+        return config != null && config.getMaxTaskDurationMs() != null
+                ? config.getMaxTaskDurationMs() : maxTaskDurationMs;
+    }
+
+    @Data
+    public static class JobMonitorConfig {
+        /**
+         * Maximum duration (ms) a run of this job may take before it is hung; the global one if unset.
+         */
+        private Long maxTaskDurationMs;
+    }
+
+    @Data
+    public static class WatchdogConfig {
+        /**
+         * Enable/disable the hung-job watchdog.
+         */
+        private boolean enabled = false;
+
+        /**
+         * What to do with a hung run besides recording it: LOG, or INTERRUPT to cancel it.
+         */
+        private WatchdogAction action = WatchdogAction.LOG;
+
+        /**
+         * Frames of the job thread's stack kept per hung run.
+         */
+        private int maxStackDepth = 64;
+    }
+
+    @Data
+    public static class PersistenceConfig {
+        /**
+         * Enable/disable persisting job runs and restoring job state on startup.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Runs waiting to be written; further runs are dropped (and counted) while it is full.
+         */
+        private int queueCapacity = 1_000;
+
+        /**
+         * Runs written per JDBC batch.
+         */
+        private int batchSize = 50;
+
+        /**
+         * Longest time (ms) a queued run waits for its batch to fill before it is written.
+         */
+        private long flushIntervalMs = 1_000;
+    }
+
+    public enum WatchdogAction {
+        LOG,
+        INTERRUPT
+    }
+}
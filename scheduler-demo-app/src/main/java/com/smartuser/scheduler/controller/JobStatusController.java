@@ -1,14 +1,22 @@
 package com.smartuser.scheduler.controller;
 
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.smartuser.scheduler.job.JobHistory;
+import com.smartuser.scheduler.job.JobSnapshot;
+import com.smartuser.scheduler.job.JobState;
+import com.smartuser.scheduler.job.JobStateRegistry;
 import com.smartuser.scheduler.task.ScheduledTaskService;
 
 /**
@@ -19,9 +27,11 @@ import com.smartuser.scheduler.task.ScheduledTaskService;
 public class JobStatusController {
 
     private final ScheduledTaskService scheduledTaskService;
+    private final JobStateRegistry jobStateRegistry;
 
-    public JobStatusController(ScheduledTaskService scheduledTaskService) {
+    public JobStatusController(ScheduledTaskService scheduledTaskService, JobStateRegistry jobStateRegistry) {
         this.scheduledTaskService = scheduledTaskService;
+        this.jobStateRegistry = jobStateRegistry;
     }
 
     /**
@@ -32,6 +42,36 @@ public class JobStatusController {
         return ResponseEntity.ok(scheduledTaskService.getJobStatus());
     }
 
+    /**
+     * Get the state of every scheduled job
+     */
+    @GetMapping
+    public ResponseEntity<List<JobSnapshot>> getJobs() {
+        return ResponseEntity.ok(jobStateRegistry.getJobs().stream()
+                .map(JobState::snapshot)
+                .sorted(Comparator.comparing(JobSnapshot::name))
+                .toList());
+    }
+
+    /**
+     * Get the state of one scheduled job
+     */
+    @GetMapping("/{name}")
+    public ResponseEntity<JobSnapshot> getJob(@PathVariable String name) {
+        JobState job = jobStateRegistry.get(name);
+        return job != null ? ResponseEntity.ok(job.snapshot()) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Get the most recent runs of one scheduled job with duration percentiles
+     */
+    @GetMapping("/{name}/history")
+    public ResponseEntity<JobHistory.View> getJobHistory(@PathVariable String name,
+                                                         @RequestParam(defaultValue = "20") int limit) {
+        JobState job = jobStateRegistry.get(name);
+        return job != null ? ResponseEntity.ok(job.getHistory().view(limit)) : ResponseEntity.notFound().build();
+    }
+
     /**
      * Get job health status (based on job execution status)
      */
@@ -45,6 +85,8 @@ public class JobStatusController {
         response.put("totalExecutions", status.totalExecutions());
         response.put("successCount", status.successCount());
         response.put("failureCount", status.failureCount());
+        response.put("skippedCount", status.skippedCount());
+        response.put("coalescedCount", status.coalescedCount());
         response.put("lastExecutionTime", status.lastExecutionTime());
         response.put("lastCompletionTime", status.lastCompletionTime());
         if (status.lastError() != null) {
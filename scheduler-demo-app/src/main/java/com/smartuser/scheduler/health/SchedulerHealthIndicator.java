@@ -1,34 +1,54 @@
 package com.smartuser.scheduler.health;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.stereotype.Component;
 
-import com.smartuser.healthmonitor.notifier.HealthStatusNotifier;
+import com.smartuser.healthmonitor.status.HealthStatusTracker;
 import com.smartuser.scheduler.config.SchedulerMonitorProperties;
+import com.smartuser.scheduler.job.JobSnapshot;
+import com.smartuser.scheduler.job.JobState;
+import com.smartuser.scheduler.job.JobStateRegistry;
+import com.smartuser.scheduler.partition.PartitionCoordinator;
+import com.smartuser.scheduler.partition.PartitionStatus;
 import com.smartuser.scheduler.task.ScheduledTaskService;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Custom health indicator that marks the scheduler DOWN when a job is hung or stale.
+ * Custom health indicator that marks the scheduler DOWN when any job has failed, is hung or is stale.
+ * Each job is judged on its own state from {@link JobStateRegistry}; partitioned jobs also
+ * list the owner and progress of each partition.
+ * Every result goes through the starter's HealthStatusTracker, so repeated polls of a
+ * DOWN scheduler alert once instead of on every evaluation.
  */
 @Slf4j
 @Component("scheduler")
 public class SchedulerHealthIndicator implements HealthIndicator {
 
     private final ScheduledTaskService scheduledTaskService;
+    private final JobStateRegistry jobStateRegistry;
     private final SchedulerMonitorProperties properties;
-    private final ObjectProvider<HealthStatusNotifier> notifierProvider;
+    private final PartitionCoordinator partitionCoordinator;
+    private final ObjectProvider<HealthStatusTracker> statusTrackerProvider;
 
     public SchedulerHealthIndicator(
             ScheduledTaskService scheduledTaskService,
+            JobStateRegistry jobStateRegistry,
             SchedulerMonitorProperties properties,
-            ObjectProvider<HealthStatusNotifier> notifierProvider) {
+            PartitionCoordinator partitionCoordinator,
+            ObjectProvider<HealthStatusTracker> statusTrackerProvider) {
         this.scheduledTaskService = scheduledTaskService;
+        this.jobStateRegistry = jobStateRegistry;
         this.properties = properties;
-        this.notifierProvider = notifierProvider;
+        this.partitionCoordinator = partitionCoordinator;
+        this.statusTrackerProvider = statusTrackerProvider;
     }
 
     @Override
@@ -39,66 +59,98 @@ public class SchedulerHealthIndicator implements HealthIndicator {
                     .build();
         }
 
-        ScheduledTaskService.JobStatus jobStatus = scheduledTaskService.getJobStatus();
         long now = System.currentTimeMillis();
-
-        Health.Builder builder = Health.up();
-        builder.withDetail("lastStatus", jobStatus.lastStatus())
-               .withDetail("isRunning", jobStatus.isRunning())
-               .withDetail("totalExecutions", jobStatus.totalExecutions())
-               .withDetail("successCount", jobStatus.successCount())
-               .withDetail("failureCount", jobStatus.failureCount())
-               .withDetail("lastExecutionTime", jobStatus.lastExecutionTime())
-               .withDetail("lastCompletionTime", jobStatus.lastCompletionTime())
-               .withDetail("hangSimulationEnabled", jobStatus.hangSimulationEnabled());
-        if (jobStatus.lastError() != null) {
-            builder.withDetail("lastError", jobStatus.lastError());
+        Map<String, Object> jobs = new TreeMap<>();
+        JobSnapshot failed = null;
+        JobSnapshot hung = null;
+        JobSnapshot stale = null;
+        for (JobState job : jobStateRegistry.getJobs()) {
+            JobSnapshot snapshot = job.snapshot();
+            jobs.put(snapshot.name(), jobDetails(snapshot));
+
+            if (failed == null && "FAILED".equalsIgnoreCase(snapshot.lastStatus())) {
+                failed = snapshot;
+            }
+            if (hung == null && snapshot.running()
+                    && snapshot.lastExecutionTime() > 0
+                    && (now - snapshot.lastExecutionTime()) > properties.maxTaskDurationMs(snapshot.name())) {
+                hung = snapshot;
+            }
+            // a job last skipped because another replica holds it completes there, not here
+            if (stale == null && snapshot.executions() >= properties.getMinExecutionsBeforeIdleCheck()
+                    && snapshot.lastCompletionTime() > 0
+                    && job.getLastLeaseSkipTime() < snapshot.lastCompletionTime()
+                    && (now - snapshot.lastCompletionTime()) > properties.getMaxIdleDurationMs()) {
+                stale = snapshot;
+            }
         }
 
-        boolean hung = jobStatus.isRunning()
-                && jobStatus.lastExecutionTime() > 0
-                && (now - jobStatus.lastExecutionTime()) > properties.getMaxTaskDurationMs();
-
-        boolean stale = jobStatus.totalExecutions() >= properties.getMinExecutionsBeforeIdleCheck()
-                && jobStatus.lastCompletionTime() > 0
-                && (now - jobStatus.lastCompletionTime()) > properties.getMaxIdleDurationMs();
-
-        boolean failed = "FAILED".equalsIgnoreCase(jobStatus.lastStatus());
+        Health.Builder builder = Health.up()
+                .withDetail("jobs", jobs)
+                .withDetail("hangSimulationEnabled", scheduledTaskService.isHangSimulationEnabled());
+        Map<String, List<PartitionStatus>> partitions = partitionCoordinator.getPartitions();
+        if (!partitions.isEmpty()) {
+            builder.withDetail("partitions", partitions);
+            if (partitionCoordinator.isEnabled()) {
+                builder.withDetail("liveNodes", partitionCoordinator.getLiveNodes());
+            }
+        }
 
-        if (failed) {
-            log.warn("Scheduler health DOWN - last execution failed: {}", jobStatus.lastError());
-            notifyDown("SCHEDULER_FAILED", jobStatus.lastError());
-            return builder.down()
+        if (failed != null) {
+            log.warn("Scheduler health DOWN - last execution of {} failed: {}", failed.name(), failed.lastError());
+            return report(builder.down()
                     .withDetail("reason", "LAST_EXECUTION_FAILED")
-                    .build();
+                    .withDetail("job", failed.name())
+                    .build(), "SCHEDULER_FAILED: " + failed.name() + ": " + failed.lastError());
         }
 
-        if (hung) {
-            long runningDuration = now - jobStatus.lastExecutionTime();
-            log.warn("Scheduler health DOWN - job appears hung ({} ms)", runningDuration);
-            notifyDown("SCHEDULER_HUNG", "Job running for " + runningDuration + "ms");
-            return builder.down()
+        if (hung != null) {
+            long runningDuration = now - hung.lastExecutionTime();
+            log.warn("Scheduler health DOWN - job {} appears hung ({} ms)", hung.name(), runningDuration);
+            return report(builder.down()
                     .withDetail("reason", "TASK_HUNG")
+                    .withDetail("job", hung.name())
                     .withDetail("runningDurationMs", runningDuration)
-                    .build();
+                    .build(), "SCHEDULER_HUNG: " + hung.name() + " running for " + runningDuration + "ms");
         }
 
-        if (stale) {
-            long idleDuration = now - jobStatus.lastCompletionTime();
-            log.warn("Scheduler health DOWN - no completion for {} ms", idleDuration);
-            notifyDown("SCHEDULER_IDLE", "No job completion for " + idleDuration + "ms");
-            return builder.down()
+        if (stale != null) {
+            long idleDuration = now - stale.lastCompletionTime();
+            log.warn("Scheduler health DOWN - job {} has not completed for {} ms", stale.name(), idleDuration);
+            return report(builder.down()
                     .withDetail("reason", "NO_RECENT_COMPLETION")
+                    .withDetail("job", stale.name())
                     .withDetail("idleDurationMs", idleDuration)
-                    .build();
+                    .build(), "SCHEDULER_IDLE: " + stale.name() + " has not completed for " + idleDuration + "ms");
         }
 
-        return builder.build();
+        return report(builder.build(), "Jobs completing normally");
+    }
+
+    private static Map<String, Object> jobDetails(JobSnapshot snapshot) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("lastStatus", snapshot.lastStatus());
+        details.put("isRunning", snapshot.running());
+        details.put("totalExecutions", snapshot.executions());
+        details.put("successCount", snapshot.successCount());
+        details.put("failureCount", snapshot.failureCount());
+        details.put("skippedCount", snapshot.skippedCount());
+        details.put("coalescedCount", snapshot.coalescedCount());
+        details.put("lastExecutionTime", snapshot.lastExecutionTime());
+        details.put("lastCompletionTime", snapshot.lastCompletionTime());
+        details.put("hungCount", snapshot.hungCount());
+        if (snapshot.lastError() != null) {
+            details.put("lastError", snapshot.lastError());
+        }
+        return details;
     }
 
-    private void notifyDown(String code, String message) {
-        notifierProvider.ifAvailable(notifier ->
-                notifier.notifyHealthStatusChange("scheduler", "DOWN", code + ": " + message));
+    /**
+     * Hand every result to the tracker; it decides whether this is a real transition worth alerting on
+     */
+    private Health report(Health health, String reason) {
+        statusTrackerProvider.ifAvailable(tracker -> tracker.record("scheduler", health.getStatus(), reason));
+        return health;
     }
 }
 
@@ -0,0 +1,71 @@
+package com.smartuser.scheduler.job;
+
+/**
+ * Fixed-size log-linear histogram of job durations in milliseconds.
+ * Each power of two is split into 8 linear sub-buckets (~12.5% relative precision)
+ * from 1ms up to ~35 years in 312 counters. Recording is O(1) and allocation-free.
+ * Not thread-safe, callers synchronize.
+ */
+final class DurationHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+    private long max;
+
+    void record(long millis) {
+        counts[indexOf(millis)]++;
+        total++;
+        max = Math.max(max, millis);
+    }
+
+    long count() {
+        return total;
+    }
+
+    long max() {
+        return max;
+    }
+
+    /**
+     * Upper bound of the bucket holding the q-th quantile, capped at the largest recorded value
+     */
+    long quantile(double q) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // the last bucket also holds everything beyond the range
+                return i == BUCKETS - 1 ? max : Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int mantissa = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        int index = (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + mantissa;
+        return Math.min(index, BUCKETS - 1);
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int mantissa = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + mantissa + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
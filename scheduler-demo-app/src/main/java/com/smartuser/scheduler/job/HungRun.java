@@ -0,0 +1,15 @@
+package com.smartuser.scheduler.job;
+
+import java.util.List;
+
+/**
+ * A run the watchdog caught past its deadline
+ *
+ * @param detectedAt when the deadline passed (epoch ms)
+ * @param runningMs how long the run had been running by then
+ * @param thread name of the thread running the job
+ * @param action what the watchdog did about it (LOG or INTERRUPT)
+ * @param stackTrace the job thread's stack at detection, top frame first
+ */
+public record HungRun(long detectedAt, long runningMs, String thread, String action, List<String> stackTrace) {
+}
@@ -0,0 +1,132 @@
+package com.smartuser.scheduler.job;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recent runs of one job in a fixed ring of primitive columns (start, duration, outcome,
+ * error fingerprint), plus a histogram of every duration since startup.
+ * <p>
+ * Recording a run writes four array slots and one histogram counter, with no allocation.
+ * Memory per job is about 21 bytes per retained run plus 2.5 KB for the histogram.
+ * Error descriptions are kept once per distinct fingerprint, up to {@link #MAX_ERROR_KINDS}.
+ */
+public final class JobHistory {
+
+    static final byte SUCCESS = 1;
+    static final byte FAILURE = 2;
+    private static final int MAX_ERROR_KINDS = 32;
+
+    private final int capacity;
+    private final long[] starts;
+    private final long[] durations;
+    private final byte[] outcomes;
+    private final int[] fingerprints;
+    private final DurationHistogram histogram = new DurationHistogram();
+    private final Map<Integer, String> errorKinds = new LinkedHashMap<>();
+    private long recorded;
+
+    JobHistory(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.starts = new long[this.capacity];
+        this.durations = new long[this.capacity];
+        this.outcomes = new byte[this.capacity];
+        this.fingerprints = new int[this.capacity];
+    }
+
+    synchronized void recordSuccess(long startTime, long durationMs) {
+        record(startTime, durationMs, SUCCESS, 0);
+    }
+
+    synchronized void recordFailure(long startTime, long durationMs, Throwable error) {
+        int fingerprint = fingerprint(error);
+        if (errorKinds.size() < MAX_ERROR_KINDS && !errorKinds.containsKey(fingerprint)) {
+            errorKinds.put(fingerprint, describe(error));
+        }
+        record(startTime, durationMs, FAILURE, fingerprint);
+    }
+
+    private void record(long startTime, long durationMs, byte outcome, int fingerprint) {
+        int slot = (int) (recorded % capacity);
+        starts[slot] = startTime;
+        durations[slot] = durationMs;
+        outcomes[slot] = outcome;
+        fingerprints[slot] = fingerprint;
+        recorded++;
+        histogram.record(durationMs);
+    }
+
+    /**
+     * Up to limit most recent runs (newest first) with percentiles of the retained runs and of all runs
+     */
+    public synchronized View view(int limit) {
+        int retained = (int) Math.min(recorded, capacity);
+        int count = Math.min(retained, Math.max(0, limit));
+        List<Run> runs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int slot = (int) ((recorded - 1 - i) % capacity);
+            String error = outcomes[slot] == FAILURE ? errorKinds.get(fingerprints[slot]) : null;
+            runs.add(new Run(starts[slot], durations[slot], outcomes[slot] == SUCCESS ? "SUCCESS" : "FAILURE",
+                    outcomes[slot] == FAILURE ? Integer.toHexString(fingerprints[slot]) : null, error));
+        }
+
+        long[] recent = new long[retained];
+        for (int i = 0; i < retained; i++) {
+            recent[i] = durations[i];
+        }
+        Arrays.sort(recent);
+        return new View(capacity, recorded,
+                new Percentiles(exact(recent, 0.50), exact(recent, 0.95), exact(recent, 0.99),
+                        retained > 0 ? recent[retained - 1] : 0),
+                new Percentiles(histogram.quantile(0.50), histogram.quantile(0.95), histogram.quantile(0.99),
+                        histogram.max()),
+                runs);
+    }
+
+    private static long exact(long[] sorted, double q) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.max(0, Math.ceil(q * sorted.length) - 1)];
+    }
+
+    /**
+     * Same exception type thrown from the same place gives the same fingerprint, whatever the message
+     */
+    static int fingerprint(Throwable error) {
+        int hash = error.getClass().getName().hashCode();
+        StackTraceElement[] stack = error.getStackTrace();
+        if (stack.length > 0) {
+            hash = 31 * hash + stack[0].getClassName().hashCode();
+            hash = 31 * hash + stack[0].getMethodName().hashCode();
+            hash = 31 * hash + stack[0].getLineNumber();
+        }
+        return hash;
+    }
+
+    private static String describe(Throwable error) {
+        StackTraceElement[] stack = error.getStackTrace();
+        String where = stack.length > 0 ? " at " + stack[0] : "";
+        return error.getClass().getName() + ": " + error.getMessage() + where;
+    }
+
+    /**
+     * @param errorFingerprint hex fingerprint for failed runs
+     * @param error first seen description of that fingerprint
+     */
+    public record Run(long startTime, long durationMs, String outcome, String errorFingerprint, String error) {
+    }
+
+    public record Percentiles(long p50, long p95, long p99, long max) {
+    }
+
+    /**
+     * @param recent exact percentiles over the retained runs (ms)
+     * @param allTime histogram percentiles over every run since startup (ms, ~12.5% precision)
+     */
+    public record View(int capacity, long recorded, Percentiles recent, Percentiles allTime, List<Run> runs) {
+    }
+}
@@ -0,0 +1,175 @@
+package com.smartuser.scheduler.job;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Per-job scheduling meters, registered on a job's first run and cached by job name.
+ * <p>
+ * Tags are bounded: job names come from @Scheduled methods, and beyond {@link #MAX_JOBS}
+ * further jobs share the job tag "other"; outcome is one of {@link Outcome}.
+ */
+@Component
+public class JobMetrics {
+
+    static final int MAX_JOBS = 64;
+    static final String OTHER_JOB = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public JobMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Start timing a run: it shows in scheduler.job.active until stopped, then in
+     * scheduler.job.duration under its outcome
+     */
+    public Execution start(String job) {
+        Meters jobMeters = meters(job);
+        return new Execution(jobMeters, jobMeters.active.start(), System.nanoTime());
+    }
+
+    /**
+     * Planned start to a worker thread picking the run up
+     */
+    public void recordLag(String job, long lagMs) {
+        meters(job).lag.record(lagMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Worker thread start to the run getting one of its job's concurrency slots
+     */
+    public void recordQueueWait(String job, long waitNanos) {
+        meters(job).queueWait.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * A run dropped by its job's overlap policy
+     */
+    public void recordSkipped(String job) {
+        meters(job).skipped.increment();
+    }
+
+    /**
+     * A run folded into another run of its job by the COALESCE overlap policy
+     */
+    public void recordCoalesced(String job) {
+        meters(job).coalesced.increment();
+    }
+
+    /**
+     * A run dropped because another replica holds the job's lock
+     */
+    public void recordLockSkipped(String job) {
+        meters(job).lockSkipped.increment();
+    }
+
+    /**
+     * A run caught by the watchdog past its deadline
+     */
+    public void recordHung(String job) {
+        meters(job).hung.increment();
+    }
+
+    private Meters meters(String job) {
+        Meters existing = meters.get(job);
+        if (existing != null) {
+            return existing;
+        }
+        return meters.computeIfAbsent(meters.size() < MAX_JOBS ? job : OTHER_JOB, this::register);
+    }
+
+    private Meters register(String job) {
+        Map<Outcome, Timer> durations = new EnumMap<>(Outcome.class);
+        for (Outcome outcome : Outcome.values()) {
+            durations.put(outcome, Timer.builder("scheduler.job.duration")
+                    .description("Duration of finished job runs")
+                    .tag("job", job)
+                    .tag("outcome", outcome.tag)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(10))
+                    .maximumExpectedValue(Duration.ofHours(1))
+                    .register(meterRegistry));
+        }
+        return new Meters(
+                LongTaskTimer.builder("scheduler.job.active")
+                        .description("Job runs in progress and how long they have been running")
+                        .tag("job", job)
+                        .register(meterRegistry),
+                durations,
+                Timer.builder("scheduler.job.lag")
+                        .description("Delay between a job run's planned and actual start")
+                        .tag("job", job)
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry),
+                Timer.builder("scheduler.job.queue.wait")
+                        .description("Time a started job run waited for a free slot of its job")
+                        .tag("job", job)
+                        .register(meterRegistry),
+                Counter.builder("scheduler.job.skipped")
+                        .description("Job runs skipped by the job's overlap policy")
+                        .tag("job", job)
+                        .register(meterRegistry),
+                Counter.builder("scheduler.job.coalesced")
+                        .description("Job runs folded into another run by the COALESCE overlap policy")
+                        .tag("job", job)
+                        .register(meterRegistry),
+                Counter.builder("scheduler.job.hung")
+                        .description("Job runs the watchdog caught exceeding the maximum task duration")
+                        .tag("job", job)
+                        .register(meterRegistry),
+                Counter.builder("scheduler.job.lock.skipped")
+                        .description("Job runs skipped because another replica held the job's lock")
+                        .tag("job", job)
+                        .register(meterRegistry));
+    }
+
+    public enum Outcome {
+        SUCCESS("success"),
+        FAILURE("failure"),
+        CANCELLED("cancelled");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * A run being timed; stop it exactly once
+     */
+    public static final class Execution {
+
+        private final Meters meters;
+        private final LongTaskTimer.Sample active;
+        private final long startNanos;
+
+        private Execution(Meters meters, LongTaskTimer.Sample active, long startNanos) {
+            this.meters = meters;
+            this.active = active;
+            this.startNanos = startNanos;
+        }
+
+        public void stop(Outcome outcome) {
+            active.stop();
+            meters.durations.get(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private record Meters(LongTaskTimer active, Map<Outcome, Timer> durations, Timer lag, Timer queueWait,
+                          Counter skipped, Counter coalesced, Counter hung, Counter lockSkipped) {
+    }
+}
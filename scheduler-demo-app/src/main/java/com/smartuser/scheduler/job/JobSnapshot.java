@@ -0,0 +1,21 @@
+package com.smartuser.scheduler.job;
+
+/**
+ * Point-in-time view of one job, as returned by /api/jobs
+ */
+public record JobSnapshot(
+    String name,
+    boolean running,
+    long executions,
+    long successCount,
+    long failureCount,
+    long skippedCount,
+    long coalescedCount,
+    long lastExecutionTime,
+    long lastCompletionTime,
+    long lastDurationMs,
+    String lastStatus,
+    String lastError,
+    long hungCount,
+    HungRun lastHang
+) {}
@@ -0,0 +1,173 @@
+package com.smartuser.scheduler.job;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Execution state of one scheduled job, updated without locks by the thread running it.
+ * <p>
+ * Counters live in one {@link AtomicLongArray} with 128 bytes of unused slots on each
+ * side, so the counters of jobs allocated next to each other never share a cache line.
+ */
+public final class JobState {
+
+    private static final int PAD = 16;
+    private static final int RUNNING = PAD;
+    private static final int EXECUTIONS = PAD + 1;
+    private static final int SUCCESSES = PAD + 2;
+    private static final int FAILURES = PAD + 3;
+    private static final int LAST_START = PAD + 4;
+    private static final int LAST_COMPLETION = PAD + 5;
+    private static final int LAST_DURATION = PAD + 6;
+    private static final int HUNG = PAD + 7;
+    private static final int SKIPPED = PAD + 8;
+    private static final int COALESCED = PAD + 9;
+    private static final int LAST_LEASE_SKIP = PAD + 10;
+    private static final int SLOTS = LAST_LEASE_SKIP + 1 + PAD;
+
+    private final String name;
+    private final AtomicLongArray counters = new AtomicLongArray(SLOTS);
+    private volatile String lastStatus = "NOT_STARTED";
+    private volatile String lastError;
+    private volatile HungRun lastHang;
+    private final JobHistory history;
+    private volatile int partitions;
+
+    JobState(String name, int historySize) {
+        this.name = name;
+        this.history = new JobHistory(historySize);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the execution number of this run, starting at 1
+     */
+    public long started(long startTime) {
+        counters.incrementAndGet(RUNNING);
+        counters.set(LAST_START, startTime);
+        lastStatus = "RUNNING";
+        return counters.incrementAndGet(EXECUTIONS);
+    }
+
+    public void succeeded(long startTime, long endTime) {
+        counters.incrementAndGet(SUCCESSES);
+        counters.set(LAST_COMPLETION, endTime);
+        history.recordSuccess(startTime, endTime - startTime);
+        finished(startTime, endTime, "COMPLETED", null);
+    }
+
+    public void failed(long startTime, long endTime, Throwable error) {
+        counters.incrementAndGet(FAILURES);
+        history.recordFailure(startTime, endTime - startTime, error);
+        finished(startTime, endTime, "FAILED", error instanceof Error ? error.toString() : error.getMessage());
+    }
+
+    /**
+     * A run dropped by the job's overlap policy
+     */
+    void skipped() {
+        counters.incrementAndGet(SKIPPED);
+    }
+
+    /**
+     * A run folded into another run by the COALESCE overlap policy
+     */
+    void coalesced() {
+        counters.incrementAndGet(COALESCED);
+    }
+
+    /**
+     * A run left to another replica, which holds the job's lock or all of its partitions
+     */
+    void leaseSkipped(long time) {
+        counters.set(LAST_LEASE_SKIP, time);
+    }
+
+    /**
+     * Called by {@link JobWatchdog} when a run passes its deadline; the run is still going
+     */
+    void hung(HungRun hung) {
+        counters.incrementAndGet(HUNG);
+        lastHang = hung;
+    }
+
+    private void finished(long startTime, long endTime, String status, String error) {
+        counters.set(LAST_DURATION, endTime - startTime);
+        lastError = error;
+        lastStatus = status;
+        counters.decrementAndGet(RUNNING);
+    }
+
+    /**
+     * Load persisted state from a previous instance; ignored once the job has run here
+     *
+     * @return true if the state was restored
+     */
+    public boolean restore(JobSnapshot persisted) {
+        if (!counters.compareAndSet(EXECUTIONS, 0, persisted.executions())) {
+            return false;
+        }
+        counters.set(SUCCESSES, persisted.successCount());
+        counters.set(FAILURES, persisted.failureCount());
+        counters.set(LAST_START, persisted.lastExecutionTime());
+        counters.set(LAST_COMPLETION, persisted.lastCompletionTime());
+        counters.set(LAST_DURATION, persisted.lastDurationMs());
+        lastError = persisted.lastError();
+        lastStatus = persisted.lastStatus();
+        return true;
+    }
+
+    public boolean isRunning() {
+        return counters.get(RUNNING) > 0;
+    }
+
+    public long getExecutions() {
+        return counters.get(EXECUTIONS);
+    }
+
+    public long getLastStartTime() {
+        return counters.get(LAST_START);
+    }
+
+    /**
+     * Time of the last successful completion, 0 if none yet
+     */
+    public long getLastCompletionTime() {
+        return counters.get(LAST_COMPLETION);
+    }
+
+    /**
+     * Time of the last run left to another replica, 0 if none. Later than the last completion
+     * while the job is being run elsewhere in the cluster.
+     */
+    public long getLastLeaseSkipTime() {
+        return counters.get(LAST_LEASE_SKIP);
+    }
+
+    public String getLastStatus() {
+        return lastStatus;
+    }
+
+    /**
+     * Partitions declared with {@link PartitionedJob}, 0 for an unpartitioned job
+     */
+    public int getPartitions() {
+        return partitions;
+    }
+
+    void setPartitions(int partitions) {
+        this.partitions = partitions;
+    }
+
+    public JobHistory getHistory() {
+        return history;
+    }
+
+    public JobSnapshot snapshot() {
+        return new JobSnapshot(name, isRunning(), counters.get(EXECUTIONS), counters.get(SUCCESSES),
+                counters.get(FAILURES), counters.get(SKIPPED), counters.get(COALESCED), counters.get(LAST_START), counters.get(LAST_COMPLETION),
+                counters.get(LAST_DURATION), lastStatus, lastError, counters.get(HUNG), lastHang);
+    }
+}
@@ -0,0 +1,117 @@
+package com.smartuser.scheduler.job;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.smartuser.scheduler.config.SchedulerMonitorProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-job state keyed by job name: the simple name of the job's bean class and the
+ * @Scheduled method, e.g. ScheduledTaskService.processDataTask, so same-named methods of
+ * different beans are separate jobs.
+ * <p>
+ * Jobs are registered as their beans are initialized, so a job that has not run yet is
+ * already known, and {@link ScheduledJobAspect} records every run. Lookups are a single
+ * ConcurrentHashMap read. Declared as a static bean in SchedulerConfig; the properties are
+ * only resolved on first use, so they are not created early by this post-processor.
+ */
+@Slf4j
+public class JobStateRegistry implements BeanPostProcessor {
+
+    private final ConcurrentHashMap<String, JobState> jobs = new ConcurrentHashMap<>();
+    private final ObjectProvider<SchedulerMonitorProperties> properties;
+    private volatile int historySize = -1;
+
+    public JobStateRegistry(ObjectProvider<SchedulerMonitorProperties> properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Name of the job run by the given @Scheduled method of a bean of the given class
+     */
+    public static String jobName(Class<?> beanClass, String method) {
+        return ClassUtils.getUserClass(beanClass).getSimpleName() + "." + method;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> type = AopUtils.getTargetClass(bean);
+        if (AnnotationUtils.isCandidateClass(type, Scheduled.class)) {
+            ReflectionUtils.doWithMethods(type, method -> {
+                JobState state = register(jobName(type, method.getName()));
+                PartitionedJob partitioned = AnnotatedElementUtils.findMergedAnnotation(method, PartitionedJob.class);
+                if (partitioned != null) {
+                    state.setPartitions(Math.max(1, partitioned.partitions()));
+                }
+            }, method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+        }
+        return bean;
+    }
+
+    /**
+     * State of the job, created on first use
+     */
+    public JobState register(String name) {
+        JobState state = jobs.get(name);
+        if (state != null) {
+            return state;
+        }
+        return jobs.computeIfAbsent(name, key -> {
+            log.debug("Tracking scheduled job {}", key);
+            return new JobState(key, historySize());
+        });
+    }
+
+    /**
+     * State of the job run by the given method of a bean of the given class, created on first use
+     */
+    public JobState register(Class<?> beanClass, String method) {
+        return register(jobName(beanClass, method));
+    }
+
+    private int historySize() {
+        int size = historySize;
+        if (size < 0) {
+            size = properties.getObject().getHistorySize();
+            historySize = size;
+        }
+        return size;
+    }
+
+    /**
+     * @param name a job name, or just its method name when no other job has a method of that name
+     * @return the job's state, or null for an unknown or ambiguous job
+     */
+    public JobState get(String name) {
+        JobState state = jobs.get(name);
+        if (state != null || name.indexOf('.') >= 0) {
+            return state;
+        }
+        String suffix = "." + name;
+        for (JobState job : jobs.values()) {
+            if (job.getName().endsWith(suffix)) {
+                if (state != null) {
+                    return null;
+                }
+                state = job;
+            }
+        }
+        return state;
+    }
+
+    public Collection<JobState> getJobs() {
+        return Collections.unmodifiableCollection(jobs.values());
+    }
+}
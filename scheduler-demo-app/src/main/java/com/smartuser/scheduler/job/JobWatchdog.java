@@ -0,0 +1,175 @@
+package com.smartuser.scheduler.job;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.smartuser.scheduler.config.SchedulerMonitorProperties;
+import com.smartuser.scheduler.config.SchedulerMonitorProperties.WatchdogConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Catches job runs that outlive their maxTaskDurationMs (per job if overridden) as it happens,
+ * instead of waiting for someone to poll the health endpoint.
+ * <p>
+ * Every run is put on a {@link DelayQueue} keyed by its deadline (O(log n) per run) and a
+ * single daemon thread sleeps until the earliest deadline, so nothing is scanned. Finished
+ * runs are only marked and dropped when their deadline comes up. On expiry the watchdog
+ * captures the stack of the job's own thread, records a {@link HungRun} on the job and,
+ * with action INTERRUPT, interrupts the thread so the run is cancelled and the worker is
+ * freed. A job that ignores interrupts keeps its thread.
+ */
+@Slf4j
+@Component
+public class JobWatchdog implements SmartLifecycle {
+
+    private final SchedulerMonitorProperties properties;
+    private final JobMetrics jobMetrics;
+    private final DelayQueue<Watch> deadlines = new DelayQueue<>();
+
+    private volatile Thread watcher;
+
+    public JobWatchdog(SchedulerMonitorProperties properties, JobMetrics jobMetrics) {
+        this.properties = properties;
+        this.jobMetrics = jobMetrics;
+    }
+
+    /**
+     * Start watching the run on the current thread; the caller must {@link Watch#finish()} it
+     */
+    public Watch watch(JobState job, long startTime) {
+        if (watcher == null) {
+            return Watch.NONE;
+        }
+        Watch watch = new Watch(job, Thread.currentThread(), startTime,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.maxTaskDurationMs(job.getName())));
+        deadlines.add(watch);
+        return watch;
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || !properties.getWatchdog().isEnabled()) {
+            return;
+        }
+        Thread thread = new Thread(this::run, "job-watchdog");
+        thread.setDaemon(true);
+        watcher = thread;
+        thread.start();
+        log.info("Job watchdog started (deadline {}ms, {} per-job override(s), action {})",
+                properties.getMaxTaskDurationMs(), properties.getJobs().size(), properties.getWatchdog().getAction());
+    }
+
+    @Override
+    public void stop() {
+        Thread current = watcher;
+        watcher = null;
+        if (current != null) {
+            current.interrupt();
+        }
+        deadlines.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return watcher != null;
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                expire(deadlines.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Job watchdog failed to handle an expired run", e);
+            }
+        }
+    }
+
+    private void expire(Watch watch) {
+        WatchdogConfig config = properties.getWatchdog();
+        synchronized (watch) {
+            if (watch.finished) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            HungRun hung = new HungRun(now, now - watch.startTime, watch.thread.getName(),
+                    config.getAction().name(), stackOf(watch.thread, config.getMaxStackDepth()));
+            watch.job.hung(hung);
+            jobMetrics.recordHung(watch.job.getName());
+            log.warn("Job {} hung for {}ms on {} (action {}):\n  at {}", watch.job.getName(), hung.runningMs(),
+                    hung.thread(), hung.action(), String.join("\n  at ", hung.stackTrace()));
+            if (config.getAction() == SchedulerMonitorProperties.WatchdogAction.INTERRUPT) {
+                watch.cancelled = true;
+                watch.thread.interrupt();
+            }
+        }
+    }
+
+    private static List<String> stackOf(Thread thread, int maxDepth) {
+        StackTraceElement[] stack = thread.getStackTrace();
+        List<String> frames = new ArrayList<>(Math.min(stack.length, maxDepth));
+        for (int i = 0; i < stack.length && i < maxDepth; i++) {
+            frames.add(stack[i].toString());
+        }
+        return frames;
+    }
+
+    /**
+     * One watched run. Finishing and expiring lock the watch, so the watchdog never
+     * interrupts a thread that has already moved on to other work.
+     */
+    public static final class Watch implements Delayed {
+
+        static final Watch NONE = new Watch(null, null, 0, 0);
+
+        private final JobState job;
+        private final Thread thread;
+        private final long startTime;
+        private final long deadlineNanos;
+        private boolean finished;
+        private boolean cancelled;
+
+        private Watch(JobState job, Thread thread, long startTime, long deadlineNanos) {
+            this.job = job;
+            this.thread = thread;
+            this.startTime = startTime;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Stop watching; call on the job's thread.
+         *
+         * @return true if the watchdog cancelled the run, in which case its interrupt is cleared
+         */
+        public boolean finish() {
+            if (thread == null) {
+                return false;
+            }
+            synchronized (this) {
+                finished = true;
+                if (cancelled) {
+                    Thread.interrupted();
+                }
+                return cancelled;
+            }
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadlineNanos, ((Watch) other).deadlineNanos);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.smartuser.scheduler.job;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.smartuser.scheduler.config.SchedulerExecutionProperties.OverlapPolicy;
+
+/**
+ * Decides whether a run of one job may start, given the runs in progress and the job's
+ * {@link OverlapPolicy}.
+ * <p>
+ * Runs can overlap in two ways: a virtual-thread scheduler fires the next run while the
+ * previous one is still going, and a pool scheduler fires every run missed during a long
+ * run back-to-back once it ends. Both are caught: the first by counting runs in progress,
+ * the second by comparing a run's planned time with the previous run's start or end.
+ * CONCURRENT runs wait for a slot on a {@link Condition}, not a monitor, so a waiting
+ * virtual thread does not pin its carrier.
+ */
+final class OverlapGate {
+
+    enum Admission {
+        RUN,
+        SKIPPED,
+        COALESCED,
+        /** COALESCE: will run once the current run ends */
+        DEFERRED
+    }
+
+    private final OverlapPolicy policy;
+    private final int maxConcurrentRuns;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+    private int running;
+    private boolean rerunPending;
+    private long lastStart;
+    private long lastEnd;
+
+    OverlapGate(OverlapPolicy policy, int maxConcurrentRuns) {
+        this.policy = policy;
+        this.maxConcurrentRuns = policy == OverlapPolicy.CONCURRENT ? Math.max(1, maxConcurrentRuns) : 1;
+    }
+
+    OverlapPolicy getPolicy() {
+        return policy;
+    }
+
+    int getMaxConcurrentRuns() {
+        return maxConcurrentRuns;
+    }
+
+    /**
+     * @param plannedTime when the trigger wanted this run (epoch ms), or -1 if unknown
+     * @param waitMs how long a CONCURRENT run may wait for a free slot
+     */
+    Admission admit(long plannedTime, long waitMs) throws InterruptedException {
+        lock.lock();
+        try {
+            return admitLocked(plannedTime, waitMs);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Admission admitLocked(long plannedTime, long waitMs) throws InterruptedException {
+        switch (policy) {
+            case SKIP -> {
+                // due while the previous run was still going
+                if (running > 0 || plannedTime >= 0 && plannedTime < lastEnd) {
+                    return Admission.SKIPPED;
+                }
+            }
+            case COALESCE -> {
+                if (running > 0) {
+                    if (rerunPending) {
+                        return Admission.COALESCED;
+                    }
+                    rerunPending = true;
+                    return Admission.DEFERRED;
+                }
+                // a run that started after this one was due already did its work
+                if (plannedTime >= 0 && plannedTime <= lastStart) {
+                    return Admission.COALESCED;
+                }
+            }
+            case CONCURRENT -> {
+                long remaining = TimeUnit.MILLISECONDS.toNanos(waitMs);
+                while (running >= maxConcurrentRuns) {
+                    if (remaining <= 0) {
+                        return Admission.SKIPPED;
+                    }
+                    remaining = slotFreed.awaitNanos(remaining);
+                }
+            }
+        }
+        running++;
+        lastStart = System.currentTimeMillis();
+        return Admission.RUN;
+    }
+
+    /**
+     * End a run, or keep its slot for one more run if runs were coalesced into it meanwhile
+     *
+     * @return true if the caller should run the job again
+     */
+    boolean finish() {
+        lock.lock();
+        try {
+            if (rerunPending) {
+                rerunPending = false;
+                lastStart = System.currentTimeMillis();
+                return true;
+            }
+            release();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * End a run that failed with an Error; pending reruns are dropped
+     */
+    void abandon() {
+        lock.lock();
+        try {
+            rerunPending = false;
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        running--;
+        lastEnd = System.currentTimeMillis();
+        slotFreed.signal();
+    }
+}
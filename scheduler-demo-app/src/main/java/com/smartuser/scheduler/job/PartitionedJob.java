@@ -0,0 +1,25 @@
+package com.smartuser.scheduler.job;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a @Scheduled job whose work is split into a fixed number of partitions.
+ * <p>
+ * With scheduler.lock.partitioning enabled every replica runs the job, on the partitions
+ * it has claimed (see {@code JobPartitions.current()}), instead of one replica running
+ * all of it. Otherwise each run owns every partition.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PartitionedJob {
+
+    /**
+     * Number of partitions the job's work is split into
+     */
+    int partitions();
+}
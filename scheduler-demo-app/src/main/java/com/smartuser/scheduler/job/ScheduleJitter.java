@@ -0,0 +1,56 @@
+package com.smartuser.scheduler.job;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Deterministic start offset per instance and job, so replicas that booted together do not
+ * fire the same job at the same moment.
+ * <p>
+ * The offset is a hash of instance id and job, in [0, window). It differs between
+ * instances and is the same on every restart of an instance as long as its id is stable,
+ * which the default (host name plus optional suffix) is. Since it shifts a job's whole
+ * schedule, every period stays staggered rather than only the first run. With the job
+ * lock on, staggered replicas still run a locked job once per period: the lease is kept
+ * until just before the holder's next run.
+ */
+public final class ScheduleJitter {
+
+    public static final ScheduleJitter NONE = new ScheduleJitter(null, 0, 0);
+
+    private final String instanceId;
+    private final long windowMs;
+    private final long cronSpreadMs;
+
+    /**
+     * @param windowMs upper bound of the offset for fixed-rate and fixed-delay jobs (and never more than their period)
+     * @param cronSpreadMs upper bound of the offset for cron jobs; keep it below the cron interval
+     */
+    public ScheduleJitter(String instanceId, long windowMs, long cronSpreadMs) {
+        this.instanceId = instanceId;
+        this.windowMs = Math.max(0, windowMs);
+        this.cronSpreadMs = Math.max(0, cronSpreadMs);
+    }
+
+    /**
+     * Offset for a fixed-rate or fixed-delay job with the given period
+     */
+    long periodic(Object job, long periodMs) {
+        return offset(job, Math.min(windowMs, periodMs));
+    }
+
+    /**
+     * Offset added to every execution time of a trigger-based (cron) job
+     */
+    long cron(Object job) {
+        return offset(job, cronSpreadMs);
+    }
+
+    private long offset(Object job, long window) {
+        if (window <= 0) {
+            return 0;
+        }
+        byte[] key = (instanceId + '|' + job).getBytes(StandardCharsets.UTF_8);
+        return Math.floorMod(UUID.nameUUIDFromBytes(key).getMostSignificantBits(), window);
+    }
+}
@@ -0,0 +1,208 @@
+package com.smartuser.scheduler.job;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import com.smartuser.scheduler.config.SchedulerExecutionProperties;
+import com.smartuser.scheduler.config.SchedulerExecutionProperties.OverlapPolicy;
+import com.smartuser.scheduler.lock.JdbcJobLock;
+import com.smartuser.scheduler.lock.JobLease;
+import com.smartuser.scheduler.partition.JobPartitions;
+import com.smartuser.scheduler.partition.PartitionCoordinator;
+import com.smartuser.scheduler.persistence.JobRunRecorder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records every @Scheduled run in {@link JobStateRegistry}.
+ * <p>
+ * Whether a run may start is decided by the job's overlap policy ({@link OverlapGate}):
+ * SKIP drops runs that come due while the job runs, COALESCE folds them into one extra run
+ * after it, and CONCURRENT allows up to maxConcurrentRuns at once. With the job lock on, a
+ * run whose job is locked by another replica is skipped too. A partitioned job runs on
+ * every replica that owns some of its partitions, bypassing the lock. Planned time, lag and
+ * slot wait are taken from {@link ScheduledRun#current()}. A failing run is logged and recorded, then swallowed like
+ * the jobs used to do themselves, so the scheduler keeps its schedule. Runs are watched by
+ * {@link JobWatchdog}; one it cancels is recorded as a failure. Every run is timed by
+ * {@link JobMetrics} and handed to {@link JobRunRecorder} for persistence.
+ */
+@Slf4j
+@Aspect
+@Component
+public class ScheduledJobAspect {
+
+    private final JobStateRegistry registry;
+    private final JobMetrics jobMetrics;
+    private final SchedulerExecutionProperties executionProperties;
+    private final JobWatchdog watchdog;
+    private final JdbcJobLock jobLock;
+    private final PartitionCoordinator partitionCoordinator;
+    private final JobRunRecorder runRecorder;
+    private final ConcurrentHashMap<String, OverlapGate> gates = new ConcurrentHashMap<>();
+
+    public ScheduledJobAspect(JobStateRegistry registry, JobMetrics jobMetrics,
+                              SchedulerExecutionProperties executionProperties, JobWatchdog watchdog,
+                              JdbcJobLock jobLock, PartitionCoordinator partitionCoordinator,
+                              JobRunRecorder runRecorder) {
+        this.registry = registry;
+        this.jobMetrics = jobMetrics;
+        this.executionProperties = executionProperties;
+        this.watchdog = watchdog;
+        this.jobLock = jobLock;
+        this.partitionCoordinator = partitionCoordinator;
+        this.runRecorder = runRecorder;
+    }
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled)")
+    public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        String name = JobStateRegistry.jobName(joinPoint.getTarget().getClass(), method);
+        ScheduledRun run = ScheduledRun.current();
+        if (run != null) {
+            jobMetrics.recordLag(name, run.lagMs());
+        }
+
+        OverlapGate gate = gates.computeIfAbsent(name, job -> gateFor(job, method));
+        JobState job = registry.register(name);
+        switch (gate.admit(run != null ? run.plannedTime() : -1, executionProperties.getPermitWaitMs())) {
+            case SKIPPED -> {
+                job.skipped();
+                jobMetrics.recordSkipped(name);
+                log.warn("Skipping run of {}: overlaps a run in progress ({})", name, gate.getPolicy());
+                return null;
+            }
+            case COALESCED -> {
+                job.coalesced();
+                jobMetrics.recordCoalesced(name);
+                log.info("Coalescing run of {} into a run that covers it", name);
+                return null;
+            }
+            case DEFERRED -> {
+                log.debug("Deferring run of {} until the run in progress ends", name);
+                return null;
+            }
+            case RUN -> {
+                // admitted below
+            }
+        }
+
+        boolean holding = true;
+        try {
+            Object result = guarded(job, joinPoint, run);
+            while (gate.finish()) {
+                log.info("Running {} once more for runs that came due while it ran", name);
+                result = guarded(job, joinPoint, null);
+            }
+            holding = false;
+            return result;
+        } finally {
+            if (holding) {
+                gate.abandon();
+            }
+        }
+    }
+
+    private OverlapGate gateFor(String job, String method) {
+        SchedulerExecutionProperties.JobOverlapConfig config = executionProperties.getJobs().get(job);
+        if (config == null) {
+            config = executionProperties.getJobs().get(method);
+        }
+        OverlapPolicy policy = config != null && config.getOverlap() != null
+                ? config.getOverlap() : executionProperties.getOverlap();
+        int maxConcurrentRuns = config != null && config.getMaxConcurrentRuns() != null
+                ? config.getMaxConcurrentRuns() : executionProperties.getMaxConcurrentRunsPerJob();
+        OverlapGate gate = new OverlapGate(policy, maxConcurrentRuns);
+        log.debug("Job {} overlap policy {} (max {} concurrent run(s))", job, policy, gate.getMaxConcurrentRuns());
+        return gate;
+    }
+
+    /**
+     * One admitted run, inside the job's partitions or cluster lock when those are on
+     */
+    private Object guarded(JobState job, ProceedingJoinPoint joinPoint, ScheduledRun run) throws Throwable {
+        String name = job.getName();
+        JobPartitions partitions = null;
+        JobLease lease = null;
+        try {
+            if (job.getPartitions() > 0) {
+                partitions = partitionCoordinator.begin(job);
+                if (partitions == null) {
+                    job.leaseSkipped(System.currentTimeMillis());
+                    log.debug("Skipping run of {}: no partitions assigned to this replica", name);
+                    return null;
+                }
+            }
+            if (jobLock.isEnabled() && !(partitions != null && partitionCoordinator.isEnabled())) {
+                lease = jobLock.tryAcquire(name);
+                if (lease == null) {
+                    jobMetrics.recordLockSkipped(name);
+                    job.leaseSkipped(System.currentTimeMillis());
+                    log.debug("Skipping run of {}: locked by another replica", name);
+                    return null;
+                }
+            }
+            if (run != null) {
+                jobMetrics.recordQueueWait(name, System.nanoTime() - run.threadStartNanos());
+            }
+            return execute(job, joinPoint);
+        } finally {
+            if (lease != null) {
+                jobLock.release(lease, run != null ? run.nextPlannedTime(System.currentTimeMillis()) : -1);
+            }
+            if (partitions != null) {
+                partitionCoordinator.end(partitions);
+            }
+        }
+    }
+
+    private Object execute(JobState job, ProceedingJoinPoint joinPoint) {
+        long startTime = System.currentTimeMillis();
+        job.started(startTime);
+        JobWatchdog.Watch watch = watchdog.watch(job, startTime);
+        JobMetrics.Execution execution = jobMetrics.start(job.getName());
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            boolean cancelled = watch.finish();
+            long endTime = System.currentTimeMillis();
+            if (e instanceof Error error) {
+                execution.stop(JobMetrics.Outcome.FAILURE);
+                job.failed(startTime, endTime, error);
+                runRecorder.record(job, startTime, endTime, false);
+                throw error;
+            }
+            if (cancelled) {
+                execution.stop(JobMetrics.Outcome.CANCELLED);
+                CancellationException cancellation = new CancellationException(
+                        "Cancelled by watchdog after " + (endTime - startTime) + "ms");
+                cancellation.initCause(e);
+                job.failed(startTime, endTime, cancellation);
+                runRecorder.record(job, startTime, endTime, false);
+                log.error("=== Task {} CANCELLED by watchdog after {}ms ===", job.getName(), endTime - startTime);
+                return null;
+            }
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            execution.stop(JobMetrics.Outcome.FAILURE);
+            job.failed(startTime, endTime, e);
+            runRecorder.record(job, startTime, endTime, false);
+            log.error("=== Task {} FAILED after {}ms ===", job.getName(), endTime - startTime, e);
+            return null;
+        }
+        execution.stop(JobMetrics.Outcome.SUCCESS);
+        if (watch.finish()) {
+            log.warn("Task {} ignored the watchdog's interrupt and completed", job.getName());
+        }
+        long endTime = System.currentTimeMillis();
+        job.succeeded(startTime, endTime);
+        runRecorder.record(job, startTime, endTime, true);
+        return result;
+    }
+}
@@ -0,0 +1,41 @@
+package com.smartuser.scheduler.job;
+
+/**
+ * Timing of the run executing on the current thread, handed from {@link TimedTaskScheduler}
+ * to {@link ScheduledJobAspect}, which knows the job name.
+ *
+ * @param plannedTime when the trigger wanted the run to start (epoch ms)
+ * @param threadStartNanos System.nanoTime() when a worker thread picked the run up
+ * @param lagMs how late the worker picked the run up
+ * @param nextPlannedTime when the trigger wants the job's next run (epoch ms), or -1 if
+ *                        unknown or it depends on when this run ends
+ * @param fixedDelayMs delay between the end of a run and the next one for fixed-delay jobs, else 0
+ */
+public record ScheduledRun(long plannedTime, long threadStartNanos, long lagMs, long nextPlannedTime,
+                           long fixedDelayMs) {
+
+    private static final ThreadLocal<ScheduledRun> CURRENT = new ThreadLocal<>();
+
+    /**
+     * @return the run on this thread, or null when a job method is called directly
+     */
+    public static ScheduledRun current() {
+        return CURRENT.get();
+    }
+
+    static void set(ScheduledRun run) {
+        CURRENT.set(run);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @param endTime when this run ended (epoch ms)
+     * @return when the job's next run is planned, or -1 if unknown
+     */
+    public long nextPlannedTime(long endTime) {
+        return fixedDelayMs > 0 ? endTime + fixedDelayMs : nextPlannedTime;
+    }
+}
@@ -0,0 +1,218 @@
+package com.smartuser.scheduler.job;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TaskScheduler decorator that works out when each run was planned to start and exposes
+ * it, with the actual start, as {@link ScheduledRun#current()} while the run executes.
+ * Each job's schedule is shifted by its {@link ScheduleJitter} offset, which counts as
+ * planned time rather than lag. Scheduling and threading are left entirely to the delegate.
+ */
+@Slf4j
+public class TimedTaskScheduler implements TaskScheduler, DisposableBean {
+
+    private final TaskScheduler delegate;
+    private final ScheduleJitter jitter;
+
+    public TimedTaskScheduler(TaskScheduler delegate) {
+        this(delegate, ScheduleJitter.NONE);
+    }
+
+    public TimedTaskScheduler(TaskScheduler delegate, ScheduleJitter jitter) {
+        this.delegate = delegate;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public Clock getClock() {
+        return delegate.getClock();
+    }
+
+    @Override
+    @Nullable
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        long spread = jitter.cron(task);
+        logOffset(task, spread);
+        TriggeredRun run = new TriggeredRun(task, trigger, spread);
+        return delegate.schedule(run, (TriggerContext triggerContext) -> {
+            Instant next = trigger.nextExecution(triggerContext);
+            if (next != null) {
+                next = next.plusMillis(spread);
+                run.planned = next.toEpochMilli();
+            }
+            return next;
+        });
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+        long planned = startTime.toEpochMilli();
+        return delegate.schedule(() -> timed(task, planned, -1, 0), startTime);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+        Instant start = startTime.plusMillis(offset(task, period));
+        return delegate.scheduleAtFixedRate(new FixedRateRun(task, start.toEpochMilli(), period), start, period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+        long offset = offset(task, period);
+        if (offset == 0) {
+            return delegate.scheduleAtFixedRate(new FixedRateRun(task, getClock().millis(), period), period);
+        }
+        Instant start = getClock().instant().plusMillis(offset);
+        return delegate.scheduleAtFixedRate(new FixedRateRun(task, start.toEpochMilli(), period), start, period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+        Instant start = startTime.plusMillis(offset(task, delay));
+        return delegate.scheduleWithFixedDelay(new FixedDelayRun(task, start.toEpochMilli(), delay), start, delay);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+        long offset = offset(task, delay);
+        if (offset == 0) {
+            return delegate.scheduleWithFixedDelay(new FixedDelayRun(task, getClock().millis(), delay), delay);
+        }
+        Instant start = getClock().instant().plusMillis(offset);
+        return delegate.scheduleWithFixedDelay(new FixedDelayRun(task, start.toEpochMilli(), delay), start, delay);
+    }
+
+    private long offset(Runnable task, Duration period) {
+        long offset = jitter.periodic(task, period.toMillis());
+        logOffset(task, offset);
+        return offset;
+    }
+
+    private static void logOffset(Runnable task, long offset) {
+        if (offset > 0) {
+            log.info("Schedule of {} offset by {}ms", task, offset);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (delegate instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void timed(Runnable task, long plannedTime, long nextPlannedTime, long fixedDelayMs) {
+        long threadStart = System.nanoTime();
+        ScheduledRun.set(new ScheduledRun(plannedTime, threadStart, Math.max(0, getClock().millis() - plannedTime),
+                nextPlannedTime, fixedDelayMs));
+        try {
+            task.run();
+        } finally {
+            ScheduledRun.clear();
+        }
+    }
+
+    /**
+     * Run n of a fixed-rate task is planned at start + n x period
+     */
+    private final class FixedRateRun implements Runnable {
+
+        private final Runnable task;
+        private final long firstPlanned;
+        private final long periodMs;
+        private final AtomicLong runs = new AtomicLong();
+
+        FixedRateRun(Runnable task, long firstPlanned, Duration period) {
+            this.task = task;
+            this.firstPlanned = firstPlanned;
+            this.periodMs = period.toMillis();
+        }
+
+        @Override
+        public void run() {
+            long planned = firstPlanned + runs.getAndIncrement() * periodMs;
+            timed(task, planned, planned + periodMs, 0);
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+
+    /**
+     * The next run of a fixed-delay task is planned one delay after the previous one ended
+     */
+    private final class FixedDelayRun implements Runnable {
+
+        private final Runnable task;
+        private final long delayMs;
+        private volatile long planned;
+
+        FixedDelayRun(Runnable task, long firstPlanned, Duration delay) {
+            this.task = task;
+            this.planned = firstPlanned;
+            this.delayMs = delay.toMillis();
+        }
+
+        @Override
+        public void run() {
+            try {
+                timed(task, planned, -1, delayMs);
+            } finally {
+                planned = getClock().millis() + delayMs;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+
+    /**
+     * Trigger-based (cron) runs are planned at whatever the trigger returned last; the next
+     * one is what the trigger returns after this one's unshifted time
+     */
+    private final class TriggeredRun implements Runnable {
+
+        private final Runnable task;
+        private final Trigger trigger;
+        private final long spread;
+        private volatile long planned;
+
+        TriggeredRun(Runnable task, Trigger trigger, long spread) {
+            this.task = task;
+            this.trigger = trigger;
+            this.spread = spread;
+        }
+
+        @Override
+        public void run() {
+            long current = planned;
+            Instant base = Instant.ofEpochMilli(current - spread);
+            Instant next = trigger.nextExecution(new SimpleTriggerContext(base, base, base));
+            timed(task, current, next != null ? next.toEpochMilli() + spread : -1, 0);
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.smartuser.scheduler.lock;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.smartuser.scheduler.config.SchedulerLockProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lease-based lock per job in the scheduler_lock table, so a run happens on one replica.
+ * <p>
+ * Acquiring is one conditional UPDATE that only matches an expired lease and bumps the
+ * fencing token; the first run of a job inserts its row. A replica that finds the lease
+ * held elsewhere remembers its expiry and skips later runs without touching the database
+ * until then, so adding replicas adds no lock traffic while a lease is held. Held leases
+ * are extended every renewIntervalMs; a renewal that no longer matches owner and token
+ * marks the lease lost. Renewal and release of a lease are serialized, so a late renewal
+ * cannot extend a lease that was just released.
+ * <p>
+ * Releasing keeps the job locked until nextRunMarginMs before this replica's next planned
+ * run, and at least minHoldMs from the start of the run. Replicas whose triggers fire at
+ * other times in the period (different boot times or jitter offsets) therefore find the
+ * job locked and the run happens once per period; a replica whose trigger falls inside the
+ * margin takes the job over once and keeps it. Lease times come from each replica's clock,
+ * so clocks must agree to well within nextRunMarginMs. Any database error skips the run
+ * rather than risk running it twice.
+ */
+@Slf4j
+@Component
+public class JdbcJobLock implements SmartLifecycle {
+
+    static final String TABLE = "scheduler_lock";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerLockProperties properties;
+    private final String instanceId;
+    private final ConcurrentHashMap<String, JobLease> held = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> leasedUntil = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService renewal;
+
+    public JdbcJobLock(JdbcTemplate jdbcTemplate, SchedulerLockProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.instanceId = properties.resolveInstanceId();
+    }
+
+    public boolean isEnabled() {
+        return renewal != null;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * @return the lease for this run, or null if another replica holds the job or the lock table is unreachable
+     */
+    public JobLease tryAcquire(String job) {
+        long now = System.currentTimeMillis();
+        Long until = leasedUntil.get(job);
+        if (until != null && until > now) {
+            return null;
+        }
+        try {
+            long leaseUntil = now + properties.getLeaseMs();
+            int updated = jdbcTemplate.update("UPDATE " + TABLE
+                    + " SET locked_by = ?, fencing_token = fencing_token + 1, lease_until = ?"
+                    + " WHERE job_name = ? AND lease_until <= ?", instanceId, leaseUntil, job, now);
+            if (updated == 1) {
+                Long token = jdbcTemplate.queryForObject("SELECT fencing_token FROM " + TABLE
+                        + " WHERE job_name = ? AND locked_by = ?", Long.class, job, instanceId);
+                return acquired(job, token, now, leaseUntil);
+            }
+
+            List<Long> current = jdbcTemplate.queryForList("SELECT lease_until FROM " + TABLE
+                    + " WHERE job_name = ?", Long.class, job);
+            if (!current.isEmpty()) {
+                leasedUntil.put(job, current.get(0));
+                return null;
+            }
+            jdbcTemplate.update("INSERT INTO " + TABLE + " (job_name, locked_by, fencing_token, lease_until)"
+                    + " VALUES (?, ?, 1, ?)", job, instanceId, leaseUntil);
+            return acquired(job, 1L, now, leaseUntil);
+        } catch (DuplicateKeyException e) {
+            return null;
+        } catch (DataAccessException e) {
+            log.warn("Skipping run of {}: job lock unavailable: {}", job, e.getMessage());
+            return null;
+        }
+    }
+
+    private JobLease acquired(String job, Long token, long now, long leaseUntil) {
+        JobLease lease = new JobLease(job, token, now, leaseUntil);
+        leasedUntil.remove(job);
+        held.put(job, lease);
+        JobLease.set(lease);
+        log.debug("Acquired lock on {} (token {})", job, token);
+        return lease;
+    }
+
+    /**
+     * End the run's lease, keeping the job locked until shortly before this replica's next run
+     *
+     * @param nextPlannedTime when this replica runs the job next (epoch ms), or -1 if unknown
+     */
+    public void release(JobLease lease, long nextPlannedTime) {
+        JobLease.clear();
+        long now = System.currentTimeMillis();
+        long holdUntil = Math.max(now, lease.getStartTime() + properties.getMinHoldMs());
+        if (nextPlannedTime > 0) {
+            holdUntil = Math.max(holdUntil, nextPlannedTime - properties.getNextRunMarginMs());
+        }
+        lease.updates().lock();
+        try {
+            held.remove(lease.getJob(), lease);
+            jdbcTemplate.update("UPDATE " + TABLE + " SET lease_until = ?"
+                    + " WHERE job_name = ? AND locked_by = ? AND fencing_token = ?",
+                    holdUntil, lease.getJob(), instanceId, lease.getFencingToken());
+            leasedUntil.put(lease.getJob(), holdUntil);
+        } catch (DataAccessException e) {
+            log.warn("Could not release lock on {}; it expires at {}", lease.getJob(), lease.getLeaseUntil(), e);
+        } finally {
+            lease.updates().unlock();
+        }
+    }
+
+    private void renewHeldLeases() {
+        for (JobLease lease : held.values()) {
+            lease.updates().lock();
+            try {
+                if (held.get(lease.getJob()) != lease) {
+                    continue; // released meanwhile
+                }
+                long until = System.currentTimeMillis() + properties.getLeaseMs();
+                int updated = jdbcTemplate.update("UPDATE " + TABLE + " SET lease_until = ?"
+                        + " WHERE job_name = ? AND locked_by = ? AND fencing_token = ?",
+                        until, lease.getJob(), instanceId, lease.getFencingToken());
+                if (updated == 1) {
+                    lease.renewed(until);
+                } else {
+                    lease.lost();
+                    held.remove(lease.getJob(), lease);
+                    log.warn("Lost lock on {} (token {}): another replica took it over",
+                            lease.getJob(), lease.getFencingToken());
+                }
+            } catch (DataAccessException e) {
+                log.warn("Could not renew lock on {}; it expires at {}", lease.getJob(), lease.getLeaseUntil(), e);
+            } finally {
+                lease.updates().unlock();
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+                + "job_name VARCHAR(128) NOT NULL PRIMARY KEY, "
+                + "locked_by VARCHAR(255) NOT NULL, "
+                + "fencing_token BIGINT NOT NULL, "
+                + "lease_until BIGINT NOT NULL)");
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lock-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1, properties.getRenewIntervalMs());
+        executor.scheduleWithFixedDelay(this::renewHeldLeases, interval, interval, TimeUnit.MILLISECONDS);
+        renewal = executor;
+        log.info("Job lock enabled as {} (lease {}ms, renewed every {}ms)",
+                instanceId, properties.getLeaseMs(), interval);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = renewal;
+        renewal = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return renewal != null;
+    }
+}
@@ -0,0 +1,79 @@
+package com.smartuser.scheduler.lock;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A replica's lease on one job for the duration of a run.
+ * <p>
+ * The fencing token grows by one with every acquisition of the job's lock, so a write
+ * tagged with it can be rejected by its target if a newer run has taken over.
+ */
+public final class JobLease {
+
+    private static final ThreadLocal<JobLease> CURRENT = new ThreadLocal<>();
+
+    private final String job;
+    private final long fencingToken;
+    private final long startTime;
+    /** Orders renewal and release of this lease; not a monitor, so a virtual thread does not pin during JDBC */
+    private final ReentrantLock updates = new ReentrantLock();
+    private volatile long leaseUntil;
+    private volatile boolean lost;
+
+    JobLease(String job, long fencingToken, long startTime, long leaseUntil) {
+        this.job = job;
+        this.fencingToken = fencingToken;
+        this.startTime = startTime;
+        this.leaseUntil = leaseUntil;
+    }
+
+    /**
+     * @return the lease of the run on this thread, or null when locking is off or the job runs unscheduled
+     */
+    public static JobLease current() {
+        return CURRENT.get();
+    }
+
+    static void set(JobLease lease) {
+        CURRENT.set(lease);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public String getJob() {
+        return job;
+    }
+
+    public long getFencingToken() {
+        return fencingToken;
+    }
+
+    long getStartTime() {
+        return startTime;
+    }
+
+    ReentrantLock updates() {
+        return updates;
+    }
+
+    public long getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    void renewed(long until) {
+        leaseUntil = until;
+    }
+
+    void lost() {
+        lost = true;
+    }
+
+    /**
+     * False once the lease expired or renewal found another replica holding the lock
+     */
+    public boolean isValid() {
+        return !lost && System.currentTimeMillis() < leaseUntil;
+    }
+}
@@ -0,0 +1,61 @@
+package com.smartuser.scheduler.partition;
+
+import java.util.List;
+
+/**
+ * Partitions the current run of a {@code @PartitionedJob} should process, handed from
+ * {@link com.smartuser.scheduler.job.ScheduledJobAspect} to the job.
+ */
+public final class JobPartitions {
+
+    private static final ThreadLocal<JobPartitions> CURRENT = new ThreadLocal<>();
+
+    private final String job;
+    private final int partitionCount;
+    private final List<Integer> owned;
+    private final PartitionCoordinator coordinator;
+
+    JobPartitions(String job, int partitionCount, List<Integer> owned, PartitionCoordinator coordinator) {
+        this.job = job;
+        this.partitionCount = partitionCount;
+        this.owned = owned;
+        this.coordinator = coordinator;
+    }
+
+    /**
+     * @return the partitions of the run on this thread, or null when the job is called directly
+     */
+    public static JobPartitions current() {
+        return CURRENT.get();
+    }
+
+    static void set(JobPartitions partitions) {
+        CURRENT.set(partitions);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public String getJob() {
+        return job;
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    /**
+     * Partitions claimed by this replica, ascending
+     */
+    public List<Integer> getOwned() {
+        return owned;
+    }
+
+    /**
+     * Report how far this run got with one of its partitions; shown by the scheduler health indicator
+     */
+    public void progress(int partition, long processed, long total) {
+        coordinator.report(job, partition, processed, total);
+    }
+}
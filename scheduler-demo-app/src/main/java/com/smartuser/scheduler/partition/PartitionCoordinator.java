@@ -0,0 +1,342 @@
+package com.smartuser.scheduler.partition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.smartuser.scheduler.config.SchedulerLockProperties;
+import com.smartuser.scheduler.config.SchedulerLockProperties.PartitionConfig;
+import com.smartuser.scheduler.job.JobState;
+import com.smartuser.scheduler.job.JobStateRegistry;
+import com.smartuser.scheduler.lock.JdbcJobLock;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Spreads the partitions of {@code @PartitionedJob}s over live replicas.
+ * <p>
+ * Every heartbeatIntervalMs each replica refreshes its row in scheduler_node; replicas
+ * seen within memberTimeoutMs are live. Partition p targets the (p mod n)-th live replica
+ * by instance id, so every replica computes the same assignment without talking to the
+ * others. A replica claims its targets in scheduler_partition with a lease of
+ * memberTimeoutMs and hands back partitions that now target someone else; a claim only
+ * succeeds once the previous owner handed it back or its lease ran out, so a partition is
+ * never claimed twice. Nothing is handed back while the job is running here. Runs only
+ * start while this replica's lease on its partitions is known to be current, so a stalled
+ * heartbeat or slow database makes it stop before another replica may claim them. Progress
+ * reported by runs is written back on the same tick, which also refreshes the cluster-wide
+ * view shown by the scheduler health indicator.
+ */
+@Slf4j
+@Component
+public class PartitionCoordinator implements SmartLifecycle {
+
+    static final String NODES = "scheduler_node";
+    static final String PARTITIONS = "scheduler_partition";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionConfig config;
+    private final JobStateRegistry registry;
+    private final String instanceId;
+    private final ConcurrentHashMap<String, List<Integer>> owned = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> ownedUntil = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, JobRuns> running = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Integer, PartitionStatus>> progress = new ConcurrentHashMap<>();
+    private final Set<String> seeded = ConcurrentHashMap.newKeySet();
+
+    private volatile ScheduledExecutorService heartbeat;
+    private volatile Map<String, List<PartitionStatus>> cluster = Map.of();
+    private volatile List<String> liveNodes = List.of();
+    private long lastFlush;
+
+    public PartitionCoordinator(JdbcTemplate jdbcTemplate, SchedulerLockProperties properties,
+                                JobStateRegistry registry, JdbcJobLock jobLock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = properties.getPartitioning();
+        this.registry = registry;
+        this.instanceId = jobLock.getInstanceId();
+    }
+
+    public boolean isEnabled() {
+        return heartbeat != null;
+    }
+
+    /**
+     * Start a run of a partitioned job on the current thread
+     *
+     * @return the partitions this run owns, or null if this replica currently owns none or its lease on them ran out
+     */
+    public JobPartitions begin(JobState job) {
+        JobRuns runs = runs(job.getName());
+        List<Integer> partitions;
+        runs.lock.lock();
+        try {
+            if (isEnabled()) {
+                boolean current = ownedUntil.getOrDefault(job.getName(), 0L) > System.currentTimeMillis();
+                partitions = current ? owned.getOrDefault(job.getName(), List.of()) : List.of();
+            } else {
+                partitions = all(job);
+            }
+            if (partitions.isEmpty()) {
+                return null;
+            }
+            runs.count.incrementAndGet();
+        } finally {
+            runs.lock.unlock();
+        }
+        JobPartitions current = new JobPartitions(job.getName(), job.getPartitions(), partitions, this);
+        JobPartitions.set(current);
+        return current;
+    }
+
+    public void end(JobPartitions partitions) {
+        JobPartitions.clear();
+        runs(partitions.getJob()).count.decrementAndGet();
+    }
+
+    private JobRuns runs(String job) {
+        JobRuns runs = running.get(job);
+        return runs != null ? runs : running.computeIfAbsent(job, key -> new JobRuns());
+    }
+
+    /**
+     * Runs of one job in progress here. The lock keeps runs from starting while partitions are
+     * claimed or handed back; a ReentrantLock rather than synchronized, so a virtual thread
+     * waiting on the JDBC work inside doesn't pin its carrier.
+     */
+    private static final class JobRuns {
+        final AtomicInteger count = new AtomicInteger();
+        final ReentrantLock lock = new ReentrantLock();
+    }
+
+    void report(String job, int partition, long processed, long total) {
+        progress.computeIfAbsent(job, key -> new ConcurrentHashMap<>())
+                .put(partition, new PartitionStatus(partition, instanceId, processed, total, System.currentTimeMillis()));
+    }
+
+    /**
+     * Owner and progress of every partition per partitioned job; cluster-wide when enabled,
+     * otherwise what this replica's runs reported
+     */
+    public Map<String, List<PartitionStatus>> getPartitions() {
+        if (isEnabled()) {
+            return cluster;
+        }
+        Map<String, List<PartitionStatus>> local = new TreeMap<>();
+        for (JobState job : registry.getJobs()) {
+            if (job.getPartitions() > 0) {
+                Map<Integer, PartitionStatus> reported = progress.getOrDefault(job.getName(), new ConcurrentHashMap<>());
+                List<PartitionStatus> partitions = new ArrayList<>(job.getPartitions());
+                for (int p = 0; p < job.getPartitions(); p++) {
+                    partitions.add(reported.getOrDefault(p, new PartitionStatus(p, instanceId, 0, 0, 0)));
+                }
+                local.put(job.getName(), partitions);
+            }
+        }
+        return local;
+    }
+
+    /**
+     * Replicas seen within memberTimeoutMs, by instance id; empty when partitioning is off
+     */
+    public List<String> getLiveNodes() {
+        return liveNodes;
+    }
+
+    private void rebalance() {
+        try {
+            long now = System.currentTimeMillis();
+            heartbeat(now);
+            List<String> live = jdbcTemplate.queryForList("SELECT instance_id FROM " + NODES
+                    + " WHERE heartbeat_at >= ? ORDER BY instance_id", String.class, now - config.getMemberTimeoutMs());
+            if (!live.equals(liveNodes)) {
+                log.info("Live scheduler replicas: {}", live);
+            }
+            liveNodes = List.copyOf(live);
+
+            for (JobState job : registry.getJobs()) {
+                if (job.getPartitions() > 0) {
+                    rebalance(job, live, now);
+                }
+            }
+            flushProgress(now);
+            cluster = readCluster();
+        } catch (DataAccessException e) {
+            owned.clear();
+            ownedUntil.clear();
+            log.warn("Partition rebalance failed; processing no partitions until it succeeds: {}", e.getMessage());
+        }
+    }
+
+    private void heartbeat(long now) {
+        int updated = jdbcTemplate.update("UPDATE " + NODES + " SET heartbeat_at = ? WHERE instance_id = ?",
+                now, instanceId);
+        if (updated == 0) {
+            jdbcTemplate.update("INSERT INTO " + NODES + " (instance_id, heartbeat_at) VALUES (?, ?)", instanceId, now);
+        }
+        jdbcTemplate.update("DELETE FROM " + NODES + " WHERE heartbeat_at < ?", now - 10 * config.getMemberTimeoutMs());
+    }
+
+    private void rebalance(JobState job, List<String> live, long now) {
+        String name = job.getName();
+        if (seeded.add(name)) {
+            for (int p = 0; p < job.getPartitions(); p++) {
+                try {
+                    jdbcTemplate.update("INSERT INTO " + PARTITIONS + " (job_name, partition_no, owned_by, owner_until,"
+                            + " processed, total, progress_at) VALUES (?, ?, NULL, 0, 0, 0, 0)", name, p);
+                } catch (DuplicateKeyException e) {
+                    // seeded by another replica
+                }
+            }
+        }
+
+        long until = now + config.getMemberTimeoutMs();
+        JobRuns runs = runs(name);
+        runs.lock.lock();
+        try {
+            if (runs.count.get() > 0) {
+                int refreshed = jdbcTemplate.update("UPDATE " + PARTITIONS + " SET owner_until = ?"
+                        + " WHERE job_name = ? AND owned_by = ?", until, name, instanceId);
+                if (refreshed == owned.getOrDefault(name, List.of()).size()) {
+                    ownedUntil.put(name, until);
+                }
+            } else {
+                claim(job, live, now, until);
+            }
+        } finally {
+            runs.lock.unlock();
+        }
+    }
+
+    /**
+     * Claim partitions targeting this replica and hand back the rest; runs of the job wait meanwhile
+     */
+    private void claim(JobState job, List<String> live, long now, long until) {
+        String name = job.getName();
+
+        List<Integer> claimed = new ArrayList<>();
+        for (int p = 0; p < job.getPartitions(); p++) {
+            boolean target = !live.isEmpty() && instanceId.equals(live.get(p % live.size()));
+            if (target) {
+                int updated = jdbcTemplate.update("UPDATE " + PARTITIONS + " SET owned_by = ?, owner_until = ?"
+                        + " WHERE job_name = ? AND partition_no = ? AND (owned_by = ? OR owned_by IS NULL OR owner_until <= ?)",
+                        instanceId, until, name, p, instanceId, now);
+                if (updated == 1) {
+                    claimed.add(p);
+                }
+            } else {
+                jdbcTemplate.update("UPDATE " + PARTITIONS + " SET owned_by = NULL, owner_until = 0"
+                        + " WHERE job_name = ? AND partition_no = ? AND owned_by = ?", name, p, instanceId);
+            }
+        }
+        List<Integer> previous = owned.put(name, Collections.unmodifiableList(claimed));
+        ownedUntil.put(name, until);
+        if (!claimed.equals(previous)) {
+            log.info("Job {} partitions owned by {}: {} of {}", name, instanceId, claimed, job.getPartitions());
+        }
+    }
+
+    private void flushProgress(long now) {
+        List<Object[]> updates = new ArrayList<>();
+        progress.forEach((job, partitions) -> partitions.values().forEach(status -> {
+            if (status.updatedAt() > lastFlush) {
+                updates.add(new Object[] { status.processed(), status.total(), status.updatedAt(), job, status.partition() });
+            }
+        }));
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE " + PARTITIONS + " SET processed = ?, total = ?, progress_at = ?"
+                    + " WHERE job_name = ? AND partition_no = ?", updates);
+        }
+        lastFlush = now;
+    }
+
+    private Map<String, List<PartitionStatus>> readCluster() {
+        Map<String, List<PartitionStatus>> view = new TreeMap<>();
+        for (JobState job : registry.getJobs()) {
+            if (job.getPartitions() > 0) {
+                view.put(job.getName(), jdbcTemplate.query("SELECT partition_no, owned_by, owner_until, processed, total,"
+                        + " progress_at FROM " + PARTITIONS + " WHERE job_name = ? AND partition_no < ?"
+                        + " ORDER BY partition_no",
+                        (rs, row) -> new PartitionStatus(rs.getInt("partition_no"),
+                                rs.getLong("owner_until") > System.currentTimeMillis() ? rs.getString("owned_by") : null,
+                                rs.getLong("processed"), rs.getLong("total"), rs.getLong("progress_at")),
+                        job.getName(), job.getPartitions()));
+            }
+        }
+        return view;
+    }
+
+    private static List<Integer> all(JobState job) {
+        List<Integer> partitions = new ArrayList<>(job.getPartitions());
+        for (int p = 0; p < job.getPartitions(); p++) {
+            partitions.add(p);
+        }
+        return partitions;
+    }
+
+    @Override
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + NODES + " ("
+                + "instance_id VARCHAR(255) NOT NULL PRIMARY KEY, "
+                + "heartbeat_at BIGINT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + PARTITIONS + " ("
+                + "job_name VARCHAR(128) NOT NULL, "
+                + "partition_no INT NOT NULL, "
+                + "owned_by VARCHAR(255), "
+                + "owner_until BIGINT NOT NULL, "
+                + "processed BIGINT NOT NULL, "
+                + "total BIGINT NOT NULL, "
+                + "progress_at BIGINT NOT NULL, "
+                + "PRIMARY KEY (job_name, partition_no))");
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-partition-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat = executor;
+        executor.scheduleWithFixedDelay(this::rebalance, 0, Math.max(1, config.getHeartbeatIntervalMs()),
+                TimeUnit.MILLISECONDS);
+        log.info("Job partitioning enabled as {} (heartbeat {}ms, member timeout {}ms)",
+                instanceId, config.getHeartbeatIntervalMs(), config.getMemberTimeoutMs());
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = heartbeat;
+        heartbeat = null;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        try {
+            jdbcTemplate.update("UPDATE " + PARTITIONS + " SET owned_by = NULL, owner_until = 0 WHERE owned_by = ?",
+                    instanceId);
+            jdbcTemplate.update("DELETE FROM " + NODES + " WHERE instance_id = ?", instanceId);
+        } catch (DataAccessException e) {
+            log.warn("Could not hand back partitions on shutdown; they free up after {}ms", config.getMemberTimeoutMs());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return heartbeat != null;
+    }
+}
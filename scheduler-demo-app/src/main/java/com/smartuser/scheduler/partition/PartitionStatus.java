@@ -0,0 +1,10 @@
+package com.smartuser.scheduler.partition;
+
+/**
+ * Owner and last reported progress of one job partition
+ *
+ * @param owner instance id of the replica that claimed the partition, null if unclaimed
+ * @param updatedAt when progress was last reported (epoch ms), 0 if never
+ */
+public record PartitionStatus(int partition, String owner, long processed, long total, long updatedAt) {
+}
@@ -0,0 +1,207 @@
+package com.smartuser.scheduler.persistence;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.smartuser.scheduler.config.SchedulerMonitorProperties;
+import com.smartuser.scheduler.config.SchedulerMonitorProperties.PersistenceConfig;
+import com.smartuser.scheduler.job.JobSnapshot;
+import com.smartuser.scheduler.job.JobState;
+import com.smartuser.scheduler.job.JobStateRegistry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persists job runs to the app's database so job state survives a restart.
+ * <p>
+ * Job threads only offer records to a bounded queue (dropping when full); a single daemon
+ * thread writes them with one JDBC batch insert into scheduler_job_run once batchSize
+ * records are waiting or flushIntervalMs after the first one, and upserts the latest
+ * counters per job into scheduler_job_state. On start, scheduler_job_state is read back
+ * into {@link JobStateRegistry} before any job runs, so idle and failure detection pick up
+ * where the previous instance left off.
+ */
+@Slf4j
+@Component
+public class JobRunRecorder implements SmartLifecycle {
+
+    static final String RUNS = "scheduler_job_run";
+    static final String STATES = "scheduler_job_state";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PersistenceConfig config;
+    private final JobStateRegistry registry;
+    private final BlockingQueue<RunRecord> queue;
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile Thread writer;
+
+    public JobRunRecorder(JdbcTemplate jdbcTemplate, SchedulerMonitorProperties properties,
+                          JobStateRegistry registry, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = properties.getPersistence();
+        this.registry = registry;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity()));
+        FunctionCounter.builder("scheduler.job.records.dropped", dropped, LongAdder::sum)
+                .description("Job run records dropped because the write queue was full or the write failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a finished run; never blocks
+     */
+    public void record(JobState job, long startTime, long endTime, boolean success) {
+        if (writer != null && !queue.offer(new RunRecord(job.snapshot(), startTime, endTime, success))) {
+            dropped.increment();
+        }
+    }
+
+    public long getDroppedRecords() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + RUNS + " ("
+                + "job_name VARCHAR(128) NOT NULL, "
+                + "start_time BIGINT NOT NULL, "
+                + "end_time BIGINT NOT NULL, "
+                + "outcome VARCHAR(16) NOT NULL, "
+                + "error VARCHAR(" + MAX_ERROR_LENGTH + "))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + STATES + " ("
+                + "job_name VARCHAR(128) NOT NULL PRIMARY KEY, "
+                + "executions BIGINT NOT NULL, "
+                + "successes BIGINT NOT NULL, "
+                + "failures BIGINT NOT NULL, "
+                + "last_start BIGINT NOT NULL, "
+                + "last_completion BIGINT NOT NULL, "
+                + "last_duration BIGINT NOT NULL, "
+                + "last_status VARCHAR(16) NOT NULL, "
+                + "last_error VARCHAR(" + MAX_ERROR_LENGTH + "))");
+        restore();
+
+        Thread thread = new Thread(this::drain, "job-run-recorder");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread current = writer;
+        writer = null;
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writer != null;
+    }
+
+    private void restore() {
+        int[] restored = {0};
+        jdbcTemplate.query("SELECT job_name, executions, successes, failures, last_start, last_completion,"
+                + " last_duration, last_status, last_error FROM " + STATES, rs -> {
+            JobState job = registry.get(rs.getString("job_name"));
+            if (job != null && job.restore(new JobSnapshot(rs.getString("job_name"), false,
+                    rs.getLong("executions"), rs.getLong("successes"), rs.getLong("failures"), 0, 0,
+                    rs.getLong("last_start"), rs.getLong("last_completion"), rs.getLong("last_duration"),
+                    rs.getString("last_status"), rs.getString("last_error"), 0, null))) {
+                restored[0]++;
+            }
+        });
+        log.info("Job run recorder restored the state of {} job(s)", restored[0]);
+    }
+
+    private void drain() {
+        List<RunRecord> batch = new ArrayList<>(config.getBatchSize());
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getFlushIntervalMs());
+                while (batch.size() < config.getBatchSize()) {
+                    RunRecord next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // flush what is queued, then exit
+                queue.drainTo(batch);
+                stopping = true;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<RunRecord> batch) {
+        List<Object[]> runs = new ArrayList<>(batch.size());
+        Map<String, JobSnapshot> latest = new LinkedHashMap<>();
+        for (RunRecord record : batch) {
+            JobSnapshot job = record.job();
+            runs.add(new Object[] { job.name(), record.startTime(), record.endTime(),
+                    record.success() ? "SUCCESS" : "FAILURE", record.success() ? null : truncate(job.lastError()) });
+            latest.merge(job.name(), job, (a, b) -> b.executions() >= a.executions() ? b : a);
+        }
+        try {
+            jdbcTemplate.batchUpdate("INSERT INTO " + RUNS + " (job_name, start_time, end_time, outcome, error)"
+                    + " VALUES (?, ?, ?, ?, ?)", runs);
+            for (JobSnapshot job : latest.values()) {
+                Object[] state = { job.executions(), job.successCount(), job.failureCount(),
+                        job.lastExecutionTime(), job.lastCompletionTime(), job.lastDurationMs(),
+                        job.lastStatus(), truncate(job.lastError()), job.name() };
+                int updated = jdbcTemplate.update("UPDATE " + STATES + " SET executions = ?, successes = ?,"
+                        + " failures = ?, last_start = ?, last_completion = ?, last_duration = ?, last_status = ?,"
+                        + " last_error = ? WHERE job_name = ?", state);
+                if (updated == 0) {
+                    jdbcTemplate.update("INSERT INTO " + STATES + " (executions, successes, failures, last_start,"
+                            + " last_completion, last_duration, last_status, last_error, job_name)"
+                            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", state);
+                }
+            }
+        } catch (DataAccessException e) {
+            dropped.add(batch.size());
+            log.warn("Could not persist {} job run record(s): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    /**
+     * @param job the job's state right after the run finished
+     */
+    private record RunRecord(JobSnapshot job, long startTime, long endTime, boolean success) {
+    }
+}
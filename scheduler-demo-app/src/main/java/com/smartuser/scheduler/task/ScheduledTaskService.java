@@ -1,82 +1,76 @@
 package com.smartuser.scheduler.task;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import lombok.Getter;
+import com.smartuser.scheduler.job.JobSnapshot;
+import com.smartuser.scheduler.job.JobState;
+import com.smartuser.scheduler.job.JobStateRegistry;
+import com.smartuser.scheduler.job.PartitionedJob;
+import com.smartuser.scheduler.partition.JobPartitions;
 
 /**
- * Scheduled task service that demonstrates job monitoring
+ * Scheduled task service that demonstrates job monitoring.
+ * Execution state is kept per job by {@link JobStateRegistry}; the jobs only do their work
+ * and throw on failure.
  */
 @Service
-@Getter
 public class ScheduledTaskService {
 
     private static final Logger log = LoggerFactory.getLogger(ScheduledTaskService.class);
+    private static final int PROCESS_DATA_PARTITIONS = 8;
+    private static final int ITEMS_PER_PARTITION = 10;
 
-    // Track job execution status
-    private final AtomicBoolean isRunning = new AtomicBoolean(false);
-    private final AtomicInteger executionCount = new AtomicInteger(0);
-    private final AtomicInteger successCount = new AtomicInteger(0);
-    private final AtomicInteger failureCount = new AtomicInteger(0);
-    private final AtomicLong lastExecutionTime = new AtomicLong(0);
-    private final AtomicLong lastCompletionTime = new AtomicLong(0);
-    private volatile String lastError = null;
-    private volatile String lastStatus = "NOT_STARTED";
+    private final JobStateRegistry jobStateRegistry;
     private final AtomicBoolean hangSimulationEnabled = new AtomicBoolean(false);
 
+    public ScheduledTaskService(JobStateRegistry jobStateRegistry) {
+        this.jobStateRegistry = jobStateRegistry;
+    }
+
     /**
      * Example scheduled task that runs every 30 seconds
-     * This simulates a long-running job
+     * This simulates a long-running job whose work is split into partitions, so replicas
+     * share it when partitioning is enabled
      */
+    @PartitionedJob(partitions = PROCESS_DATA_PARTITIONS)
     @Scheduled(fixedRate = 30000, initialDelay = 5000)
-    public void processDataTask() {
+    public void processDataTask() throws InterruptedException {
         String taskName = "processDataTask";
+        long execution = jobStateRegistry.register(ScheduledTaskService.class, taskName).getExecutions();
         long startTime = System.currentTimeMillis();
-        isRunning.set(true);
-        lastExecutionTime.set(startTime);
-        lastStatus = "RUNNING";
-        executionCount.incrementAndGet();
 
         log.info("=== Starting scheduled task: {} ===", taskName);
-        log.info("Execution #{} started at {}", executionCount.get(), LocalDateTime.now());
-
-        try {
-            // Simulate work - sleep for 5 seconds
-            Thread.sleep(5000);
-            simulateHangIfNeeded(taskName);
-
-            // Simulate occasional failures (every 5th execution)
-            if (executionCount.get() % 5 == 0) {
-                throw new RuntimeException("Simulated failure in scheduled task execution #" + executionCount.get());
+        log.info("Execution #{} started at {}", execution, LocalDateTime.now());
+
+        // Simulate work - 5 seconds for the whole job, split evenly over its partitions
+        JobPartitions partitions = JobPartitions.current();
+        List<Integer> owned = partitions != null ? partitions.getOwned()
+                : IntStream.range(0, PROCESS_DATA_PARTITIONS).boxed().toList();
+        for (int partition : owned) {
+            for (int item = 1; item <= ITEMS_PER_PARTITION; item++) {
+                Thread.sleep(5000 / (PROCESS_DATA_PARTITIONS * ITEMS_PER_PARTITION));
+                if (partitions != null) {
+                    partitions.progress(partition, item, ITEMS_PER_PARTITION);
+                }
             }
+        }
+        log.info("Processed partitions {} of {}", owned, PROCESS_DATA_PARTITIONS);
+        simulateHangIfNeeded(taskName);
 
-            // Success
-            successCount.incrementAndGet();
-            lastStatus = "COMPLETED";
-            lastError = null;
-            long duration = System.currentTimeMillis() - startTime;
-            lastCompletionTime.set(System.currentTimeMillis());
-
-            log.info("=== Task {} completed successfully in {}ms ===", taskName, duration);
-            log.info("Total executions: {}, Success: {}, Failures: {}", 
-                    executionCount.get(), successCount.get(), failureCount.get());
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            handleFailure(taskName, e, startTime);
-        } catch (Exception e) {
-            handleFailure(taskName, e, startTime);
-        } finally {
-            isRunning.set(false);
+        // Simulate occasional failures (every 5th execution)
+        if (execution % 5 == 0) {
+            throw new RuntimeException("Simulated failure in scheduled task execution #" + execution);
         }
+
+        log.info("=== Task {} completed successfully in {}ms ===", taskName, System.currentTimeMillis() - startTime);
     }
 
     /**
@@ -84,36 +78,17 @@ public class ScheduledTaskService {
      * This simulates a quick job
      */
     @Scheduled(fixedRate = 60000, initialDelay = 10000)
-    public void quickTask() {
+    public void quickTask() throws InterruptedException {
         String taskName = "quickTask";
         long startTime = System.currentTimeMillis();
-        isRunning.set(true);
-        lastExecutionTime.set(startTime);
-        lastStatus = "RUNNING";
-        executionCount.incrementAndGet();
 
         log.info("Quick task started at {}", LocalDateTime.now());
 
-        try {
-            // Simulate quick work
-            Thread.sleep(1000);
-            simulateHangIfNeeded(taskName);
-
-            successCount.incrementAndGet();
-            lastStatus = "COMPLETED";
-            lastError = null;
-            lastCompletionTime.set(System.currentTimeMillis());
-
-            log.info("Quick task completed in {}ms", System.currentTimeMillis() - startTime);
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            handleFailure(taskName, e, startTime);
-        } catch (Exception e) {
-            handleFailure(taskName, e, startTime);
-        } finally {
-            isRunning.set(false);
-        }
+        // Simulate quick work
+        Thread.sleep(1000);
+        simulateHangIfNeeded(taskName);
+
+        log.info("Quick task completed in {}ms", System.currentTimeMillis() - startTime);
     }
 
     /**
@@ -121,61 +96,54 @@ public class ScheduledTaskService {
      * This can simulate a stuck job if configured incorrectly
      */
     @Scheduled(fixedRate = 120000, initialDelay = 15000)
-    public void longRunningTask() {
+    public void longRunningTask() throws InterruptedException {
         String taskName = "longRunningTask";
-        long startTime = System.currentTimeMillis();
-        isRunning.set(true);
-        lastExecutionTime.set(startTime);
-        lastStatus = "RUNNING";
-        executionCount.incrementAndGet();
 
         log.info("=== Starting long-running task: {} ===", taskName);
 
-        try {
-            // Simulate longer work - 10 seconds
-            Thread.sleep(10000);
-            simulateHangIfNeeded(taskName);
-
-            successCount.incrementAndGet();
-            lastStatus = "COMPLETED";
-            lastError = null;
-            lastCompletionTime.set(System.currentTimeMillis());
-
-            log.info("=== Long-running task {} completed ===", taskName);
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            handleFailure(taskName, e, startTime);
-        } catch (Exception e) {
-            handleFailure(taskName, e, startTime);
-        } finally {
-            isRunning.set(false);
-        }
-    }
+        // Simulate longer work - 10 seconds
+        Thread.sleep(10000);
+        simulateHangIfNeeded(taskName);
 
-    private void handleFailure(String taskName, Exception e, long startTime) {
-        failureCount.incrementAndGet();
-        lastStatus = "FAILED";
-        lastError = e.getMessage();
-        long duration = System.currentTimeMillis() - startTime;
-
-        log.error("=== Task {} FAILED after {}ms ===", taskName, duration, e);
-        log.error("Error: {}", e.getMessage());
+        log.info("=== Long-running task {} completed ===", taskName);
     }
 
     /**
-     * Get job status summary
+     * Get job status summary across all jobs; per-job state is in {@link JobStateRegistry}
      */
     public JobStatus getJobStatus() {
+        boolean running = false;
+        int executions = 0;
+        int successes = 0;
+        int failures = 0;
+        long skipped = 0;
+        long coalesced = 0;
+        long lastCompletionTime = 0;
+        JobSnapshot latest = null; // most recently started job supplies status and error
+        for (JobState job : jobStateRegistry.getJobs()) {
+            JobSnapshot snapshot = job.snapshot();
+            running |= snapshot.running();
+            executions += (int) snapshot.executions();
+            successes += (int) snapshot.successCount();
+            failures += (int) snapshot.failureCount();
+            skipped += snapshot.skippedCount();
+            coalesced += snapshot.coalescedCount();
+            lastCompletionTime = Math.max(lastCompletionTime, snapshot.lastCompletionTime());
+            if (latest == null || snapshot.lastExecutionTime() > latest.lastExecutionTime()) {
+                latest = snapshot;
+            }
+        }
         return new JobStatus(
-            isRunning.get(),
-            executionCount.get(),
-            successCount.get(),
-            failureCount.get(),
-            lastExecutionTime.get(),
-            lastCompletionTime.get(),
-            lastStatus,
-            lastError,
+            running,
+            executions,
+            successes,
+            failures,
+            skipped,
+            coalesced,
+            latest != null ? latest.lastExecutionTime() : 0,
+            lastCompletionTime,
+            latest != null ? latest.lastStatus() : "NOT_STARTED",
+            latest != null ? latest.lastError() : null,
             hangSimulationEnabled.get()
         );
     }
@@ -214,6 +182,8 @@ public class ScheduledTaskService {
         int totalExecutions,
         int successCount,
         int failureCount,
+        long skippedCount,
+        long coalescedCount,
         long lastExecutionTime,
         long lastCompletionTime,
         String lastStatus,
@@ -0,0 +1,82 @@
+package com.smartuser.scheduler.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class DurationHistogramTest {
+
+    private static final long LARGE = 1L << 30;
+
+    @Test
+    void emptyHistogramReportsZero() {
+        DurationHistogram histogram = new DurationHistogram();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.quantile(0.5));
+        assertEquals(0, histogram.quantile(1.0));
+    }
+
+    @Test
+    void valuesBelowEightHaveExactBuckets() {
+        for (long value = 0; value < 8; value++) {
+            assertEquals(value, bucketUpperBound(value));
+        }
+    }
+
+    @Test
+    void bucketUpperBoundIsWithinAnEighthOfTheValue() {
+        for (long value = 8; value < 1 << 20; value += value / 97 + 1) {
+            long upper = bucketUpperBound(value);
+            assertTrue(upper >= value, value + " -> " + upper);
+            assertTrue(upper < value + value / 8 + 1, value + " -> " + upper);
+        }
+    }
+
+    @Test
+    void bucketsAreContiguousAcrossPowersOfTwo() {
+        for (int exponent = 3; exponent < 30; exponent++) {
+            long power = 1L << exponent;
+            assertEquals(power - 1, bucketUpperBound(power - 1));
+            assertTrue(bucketUpperBound(power) >= power);
+        }
+    }
+
+    @Test
+    void negativeAndHugeValuesAreClamped() {
+        DurationHistogram histogram = new DurationHistogram();
+        histogram.record(-5);
+        assertEquals(0, histogram.quantile(1.0));
+
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.max());
+        assertEquals(Long.MAX_VALUE, histogram.quantile(1.0));
+    }
+
+    @Test
+    void quantilesOfUniformDurations() {
+        DurationHistogram histogram = new DurationHistogram();
+        for (long millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis);
+        }
+        assertEquals(1000, histogram.count());
+        assertEquals(1000, histogram.max());
+
+        long p50 = histogram.quantile(0.5);
+        assertTrue(p50 >= 500 && p50 <= 500 * 9 / 8, "p50 " + p50);
+        long p99 = histogram.quantile(0.99);
+        assertTrue(p99 >= 990 && p99 <= 1000, "p99 " + p99);
+        assertEquals(1000, histogram.quantile(1.0), "capped at the largest recorded value");
+        assertEquals(1, histogram.quantile(0.0));
+    }
+
+    /**
+     * Upper bound of the bucket holding value, read back as the median of value and a much larger one
+     */
+    private static long bucketUpperBound(long value) {
+        DurationHistogram histogram = new DurationHistogram();
+        histogram.record(value);
+        histogram.record(LARGE);
+        return histogram.quantile(0.5);
+    }
+}
@@ -0,0 +1,115 @@
+package com.smartuser.scheduler.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.smartuser.scheduler.config.SchedulerExecutionProperties.OverlapPolicy;
+import com.smartuser.scheduler.job.OverlapGate.Admission;
+
+class OverlapGateTest {
+
+    private static final long UNKNOWN = -1;
+
+    @Test
+    void skipDropsRunsDueWhileTheJobRuns() throws InterruptedException {
+        OverlapGate gate = new OverlapGate(OverlapPolicy.SKIP, 4);
+        assertEquals(1, gate.getMaxConcurrentRuns());
+
+        assertEquals(Admission.RUN, gate.admit(UNKNOWN, 0));
+        assertEquals(Admission.SKIPPED, gate.admit(UNKNOWN, 0));
+        assertFalse(gate.finish());
+
+        assertEquals(Admission.RUN, gate.admit(UNKNOWN, 0));
+        assertFalse(gate.finish());
+    }
+
+    @Test
+    void skipDropsCatchUpRunsPlannedBeforeThePreviousRunEnded() throws InterruptedException {
+        OverlapGate gate = new OverlapGate(OverlapPolicy.SKIP, 1);
+        long missed = System.currentTimeMillis() - 1000;
+        assertEquals(Admission.RUN, gate.admit(missed - 1000, 0));
+        assertFalse(gate.finish());
+
+        assertEquals(Admission.SKIPPED, gate.admit(missed, 0));
+        assertEquals(Admission.RUN, gate.admit(System.currentTimeMillis() + 1000, 0));
+    }
+
+    @Test
+    void coalesceFoldsRunsDueWhileTheJobRunsIntoOneRerun() throws InterruptedException {
+        OverlapGate gate = new OverlapGate(OverlapPolicy.COALESCE, 1);
+
+        assertEquals(Admission.RUN, gate.admit(UNKNOWN, 0));
+        assertEquals(Admission.DEFERRED, gate.admit(UNKNOWN, 0));
+        assertEquals(Admission.COALESCED, gate.admit(UNKNOWN, 0));
+        assertEquals(Admission.COALESCED, gate.admit(UNKNOWN, 0));
+
+        assertTrue(gate.finish());
+        // due during the rerun, which keeps the slot: deferred again
+        assertEquals(Admission.DEFERRED, gate.admit(UNKNOWN, 0));
+        assertTrue(gate.finish());
+        assertFalse(gate.finish());
+        assertEquals(Admission.RUN, gate.admit(UNKNOWN, 0));
+    }
+
+    @Test
+    void coalesceDropsCatchUpRunsPlannedBeforeTheLastStart() throws InterruptedException {
+        OverlapGate gate = new OverlapGate(OverlapPolicy.COALESCE, 1);
+        long planned = System.currentTimeMillis() - 1000;
+        assertEquals(Admission.RUN, gate.admit(planned, 0));
+        assertFalse(gate.finish());
+
+        assertEquals(Admission.COALESCED, gate.admit(planned, 0));
+        assertEquals(Admission.RUN, gate.admit(System.currentTimeMillis() + 1000, 0));
+    }
+
+    @Test
+    void abandonDropsThePendingRerun() throws InterruptedException {
+        OverlapGate gate = new OverlapGate(OverlapPolicy.COALESCE, 1);
+        assertEquals(Admission.RUN, gate.admit(UNKNOWN, 0));
+        assertEquals(Admission.DEFERRED, gate.admit(UNKNOWN, 0));
+
+        gate.abandon();
+        assertEquals(Admission.RUN, gate.admit(UNKNOWN, 0));
+        assertFalse(gate.finish());
+    }
+
+    @Test
+    void concurrentAdmitsUpToTheCapAndSkipsWithoutWaiting() throws InterruptedException {
+        OverlapGate gate = new OverlapGate(OverlapPolicy.CONCURRENT, 2);
+        assertEquals(2, gate.getMaxConcurrentRuns());
+
+        assertEquals(Admission.RUN, gate.admit(UNKNOWN, 0));
+        assertEquals(Admission.RUN, gate.admit(UNKNOWN, 0));
+        assertEquals(Admission.SKIPPED, gate.admit(UNKNOWN, 0));
+        assertEquals(Admission.SKIPPED, gate.admit(UNKNOWN, 20));
+
+        assertFalse(gate.finish());
+        assertEquals(Admission.RUN, gate.admit(UNKNOWN, 0));
+    }
+
+    @Test
+    void concurrentWaitsForASlotToFreeUp() throws Exception {
+        OverlapGate gate = new OverlapGate(OverlapPolicy.CONCURRENT, 1);
+        assertEquals(Admission.RUN, gate.admit(UNKNOWN, 0));
+
+        CompletableFuture<Admission> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return gate.admit(UNKNOWN, TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                throw new CompletionException(e);
+            }
+        });
+        Thread.sleep(50);
+        assertFalse(waiting.isDone());
+
+        assertFalse(gate.finish());
+        assertEquals(Admission.RUN, waiting.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,96 @@
+#!/bin/bash
+#
+# Compare JVM and GraalVM native startup of an application module.
+#
+# Usage: ./startup-compare.sh <module-dir> [runs]
+#   e.g. ./startup-compare.sh scheduler-demo-app 5
+#
+# Builds the executable jar and the native image (mvn -Pnative package, needs
+# GraalVM for JDK 21 as JAVA_HOME), starts each one RUNS times on a random port
+# and records the time Spring Boot reports until the application started and
+# the resident set size once it is up. Results are printed and written to
+# <module-dir>/target/startup-comparison.csv.
+#
+# Set SKIP_BUILD=1 to reuse existing artifacts and APP_ARGS to pass extra
+# arguments to the application.
+
+set -e
+
+MODULE="${1:?usage: $0 <module-dir> [runs]}"
+RUNS="${2:-5}"
+MODULE_DIR="$(cd "$(dirname "$0")/$MODULE" && pwd)"
+ARTIFACT="$(basename "$MODULE_DIR")"
+TARGET="$MODULE_DIR/target"
+RESULTS="$TARGET/startup-comparison.csv"
+DEFAULT_ARGS="--server.port=0 --spring.boot.admin.client.enabled=false"
+
+if [ "$SKIP_BUILD" != "1" ]; then
+    echo "Building JVM jar..."
+    (cd "$MODULE_DIR" && mvn -q clean package -DskipTests)
+    cp "$TARGET/$ARTIFACT-1.0.0.jar" "$TARGET/$ARTIFACT-jvm.jar"
+    echo "Building native image..."
+    (cd "$MODULE_DIR" && mvn -q -Pnative package -DskipTests)
+fi
+
+JAR="$TARGET/$ARTIFACT-jvm.jar"
+NATIVE="$TARGET/$ARTIFACT"
+[ -f "$JAR" ] || { echo "Missing $JAR"; exit 1; }
+[ -x "$NATIVE" ] || { echo "Missing native image $NATIVE"; exit 1; }
+
+# Start a command, wait for the Spring Boot "Started" line and print
+# "<startup seconds> <rss kB>". Runs in a $(...) subshell, so failures are
+# returned and the caller exits.
+measure() {
+    local log
+    log="$(mktemp)"
+    "$@" $DEFAULT_ARGS $APP_ARGS > "$log" 2>&1 &
+    local pid=$!
+    local startup=""
+    for _ in $(seq 1 600); do
+        startup="$(grep -o 'process running for [0-9.]*' "$log" | head -1 | awk '{print $4}')"
+        [ -n "$startup" ] && break
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited during startup:" >&2
+            tail -20 "$log" >&2
+            rm -f "$log"
+            return 1
+        fi
+        sleep 0.1
+    done
+    if [ -z "$startup" ]; then
+        echo "Application did not start within 60s:" >&2
+        tail -20 "$log" >&2
+        kill "$pid"
+        rm -f "$log"
+        return 1
+    fi
+    sleep 1
+    local rss
+    rss="$(ps -o rss= -p "$pid" | tr -d ' ')"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    rm -f "$log"
+    echo "$startup $rss"
+}
+
+echo "mode,run,startup_seconds,rss_kb" > "$RESULTS"
+for i in $(seq 1 "$RUNS"); do
+    sample="$(measure java -jar "$JAR")" || exit 1
+    read -r s r <<< "$sample"
+    echo "jvm,$i,$s,$r" >> "$RESULTS"
+    sample="$(measure "$NATIVE")" || exit 1
+    read -r s r <<< "$sample"
+    echo "native,$i,$s,$r" >> "$RESULTS"
+done
+
+echo ""
+echo "========================================"
+echo "Startup comparison for $ARTIFACT ($RUNS runs, medians)"
+echo "========================================"
+for mode in jvm native; do
+    startup="$(grep "^$mode," "$RESULTS" | cut -d, -f3 | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')"
+    rss="$(grep "^$mode," "$RESULTS" | cut -d, -f4 | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')"
+    printf "%-8s startup %6ss   RSS %8s kB\n" "$mode" "$startup" "$rss"
+done
+echo ""
+echo "Raw samples: $RESULTS"